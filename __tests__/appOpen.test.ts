@@ -0,0 +1,46 @@
+import { AppOpenAd } from '../src';
+import NativeAppOpenModule from '../src/specs/modules/NativeAppOpenModule';
+
+describe('Google Mobile Ads App Open', function () {
+  describe('enableAutoShow()', () => {
+    afterEach(() => {
+      jest.clearAllMocks();
+    });
+
+    it('throws if autoShowOptions are invalid', function () {
+      const ad = AppOpenAd.createForAdRequest('abc');
+
+      // @ts-ignore
+      expect(() => ad.enableAutoShow(123)).toThrowError(
+        "AppOpenAd.enableAutoShow(*) 'options' expected an object value.",
+      );
+      expect(() => ad.enableAutoShow({ cooldown: -1 })).toThrowError(
+        "AppOpenAd.enableAutoShow(*) 'options.cooldown' expected a positive number value.",
+      );
+    });
+
+    it('does call native auto show method', () => {
+      const ad = AppOpenAd.createForAdRequest('abc', { keywords: ['foo'] });
+
+      ad.enableAutoShow({ cooldown: 1000, maxAdAge: 60000 });
+      expect(NativeAppOpenModule.appOpenSetAutoShow).toBeCalledWith(
+        expect.any(Number),
+        'abc',
+        { keywords: ['foo'] },
+        { cooldown: 1000, maxAdAge: 60000, enabled: true },
+      );
+    });
+
+    it('can be disabled', () => {
+      const ad = AppOpenAd.createForAdRequest('abc');
+
+      ad.disableAutoShow();
+      expect(NativeAppOpenModule.appOpenSetAutoShow).toBeCalledWith(
+        expect.any(Number),
+        'abc',
+        {},
+        { enabled: false },
+      );
+    });
+  });
+});
@@ -30,4 +30,13 @@ describe('Google Mobile Ads AdsConsent', function () {
       );
     });
   });
+
+  describe('hasVendorPurposeConsent', function () {
+    it('rejects if vendorId is not a number', async function () {
+      // @ts-ignore
+      await expect(AdsConsent.hasVendorPurposeConsent('755', 1)).rejects.toThrowError(
+        "AdsConsent.hasVendorPurposeConsent(*) 'vendorId' expected a number value.",
+      );
+    });
+  });
 });
@@ -103,6 +103,11 @@ describe('Admob', function () {
         admob().setAppMuted(true);
         expect(RNGoogleMobileAdsModule.setAppMuted).toBeCalledTimes(1);
       });
+
+      it('does call native getLatencyStats method', async () => {
+        await expect(admob().getLatencyStats()).resolves.toEqual({});
+        expect(RNGoogleMobileAdsModule.getLatencyStats).toBeCalledTimes(1);
+      });
     });
   });
 });
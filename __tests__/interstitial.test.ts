@@ -82,6 +82,60 @@ describe('Google Mobile Ads Interstitial', function () {
         ad.load();
         expect(NativeInterstitialModule.interstitialLoad).toBeCalledTimes(2);
       });
+
+      it('loads each ad of the same unit under its own request', () => {
+        const first = InterstitialAd.createForAdRequest('abc');
+        const second = InterstitialAd.createForAdRequest('abc');
+
+        first.load();
+        second.load();
+        expect(NativeInterstitialModule.interstitialLoad).toBeCalledTimes(2);
+        const [[firstRequestId], [secondRequestId]] = (
+          NativeInterstitialModule.interstitialLoad as jest.Mock
+        ).mock.calls;
+        expect(firstRequestId).not.toEqual(secondRequestId);
+      });
+
+      it('stays loaded when a shared load delivers a new ad', () => {
+        const ad = InterstitialAd.createForAdRequest('abc');
+        const listener = jest.fn();
+        ad.addAdEventListener(AdEventType.LOADED, listener);
+
+        ad.load();
+        // Once another request showed the shared ad, a new one is delivered with another event.
+        // @ts-ignore
+        ad._handleAdEvent({ body: { type: AdEventType.LOADED } });
+        // @ts-ignore
+        ad._handleAdEvent({ body: { type: AdEventType.LOADED } });
+
+        expect(listener).toBeCalledTimes(2);
+        expect(ad.loaded).toEqual(true);
+        expect(NativeInterstitialModule.interstitialLoad).toBeCalledTimes(1);
+      });
+    });
+
+    describe('preload', function () {
+      afterEach(() => {
+        jest.clearAllMocks();
+      });
+
+      it('throws if adUnitId is invalid', function () {
+        // @ts-ignore
+        expect(() => InterstitialAd.preload(123)).toThrowError(
+          "InterstitialAd.preload(*) 'adUnitId' expected an string value.",
+        );
+      });
+
+      it('throws if depth is invalid', function () {
+        expect(() => InterstitialAd.preload('abc', {}, -1)).toThrowError(
+          "InterstitialAd.preload(_, _, *) 'depth' expected a positive integer value.",
+        );
+      });
+
+      it('does call native preload method', function () {
+        InterstitialAd.preload('abc', {}, 2);
+        expect(NativeInterstitialModule.interstitialPreload).toBeCalledWith('abc', {}, 2);
+      });
     });
 
     describe('show', function () {
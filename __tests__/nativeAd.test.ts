@@ -0,0 +1,226 @@
+import { NativeAd } from '../src';
+import NativeGoogleMobileAdsNativeModule, {
+  NativeAdBatchEventPayload,
+  NativeAdPlacementEventPayload,
+  NativeAdProps,
+} from '../src/specs/modules/NativeGoogleMobileAdsNativeModule';
+
+function createProps(responseId: string): NativeAdProps {
+  return {
+    responseId,
+    advertiser: null,
+    body: 'body',
+    callToAction: 'Install',
+    headline: 'headline',
+    price: null,
+    store: null,
+    starRating: null,
+    icon: null,
+    images: null,
+    mediaContent: { aspectRatio: 1, hasVideoContent: false, duration: 0 },
+    extras: null,
+  };
+}
+
+describe('Google Mobile Ads Native', function () {
+  describe('loadMultiFormat()', () => {
+    afterEach(() => {
+      jest.clearAllMocks();
+    });
+
+    it('throws if banner sizes are invalid', async () => {
+      await expect(NativeAd.loadMultiFormat('abc', [])).rejects.toThrowError(
+        "NativeAd.loadMultiFormat(_, *) 'bannerSizes' expected an array of fixed banner sizes.",
+      );
+      await expect(NativeAd.loadMultiFormat('abc', ['ADAPTIVE_BANNER'])).rejects.toThrowError(
+        "NativeAd.loadMultiFormat(_, *) 'bannerSizes' expected an array of fixed banner sizes.",
+      );
+    });
+
+    it('resolves with a native ad', async () => {
+      (NativeGoogleMobileAdsNativeModule.loadMultiFormat as jest.Mock).mockResolvedValueOnce({
+        format: 'native',
+        ad: createProps('a'),
+      });
+
+      const result = await NativeAd.loadMultiFormat('abc', ['MEDIUM_RECTANGLE', '320x50'], {});
+      expect(NativeGoogleMobileAdsNativeModule.loadMultiFormat).toBeCalledWith(
+        'abc',
+        ['MEDIUM_RECTANGLE', '320x50'],
+        {},
+      );
+      expect(result.format).toEqual('native');
+      expect(result.format === 'native' && result.nativeAd.responseId).toEqual('a');
+    });
+
+    it('resolves with a banner slot', async () => {
+      const slot = { format: 'banner', slotId: 'multi_format_banner:1', width: 300, height: 250 };
+      (NativeGoogleMobileAdsNativeModule.loadMultiFormat as jest.Mock).mockResolvedValueOnce(slot);
+
+      await expect(NativeAd.loadMultiFormat('abc', ['MEDIUM_RECTANGLE'])).resolves.toEqual(slot);
+    });
+  });
+
+  describe('loadMany()', () => {
+    afterEach(() => {
+      jest.clearAllMocks();
+    });
+
+    it('throws if count is invalid', async () => {
+      await expect(NativeAd.loadMany('abc', 0)).rejects.toThrowError(
+        "NativeAd.loadMany(_, *) 'count' expected a number greater than 0.",
+      );
+      // @ts-ignore
+      await expect(NativeAd.loadMany('abc', '2')).rejects.toThrowError(
+        "NativeAd.loadMany(_, *) 'count' expected a number greater than 0.",
+      );
+    });
+
+    it('streams ads as they arrive', async () => {
+      const onAdLoaded = jest.fn();
+      const promise = NativeAd.loadMany('abc', 2, {}, onAdLoaded);
+
+      expect(NativeGoogleMobileAdsNativeModule.loadMany).toBeCalledWith(
+        expect.any(Number),
+        'abc',
+        2,
+        {},
+      );
+      const batchId = (NativeGoogleMobileAdsNativeModule.loadMany as jest.Mock).mock.calls[0][0];
+      const listener = (NativeGoogleMobileAdsNativeModule.onAdEvent as unknown as jest.Mock).mock
+        .calls[0][0] as (payload: NativeAdBatchEventPayload) => void;
+
+      listener({ responseId: 'a', type: 'batch_ad_loaded', batchId, ad: createProps('a') });
+      expect(onAdLoaded).toBeCalledTimes(1);
+      // Events of other batches are ignored.
+      listener({ responseId: 'x', type: 'batch_ad_loaded', batchId: -1, ad: createProps('x') });
+      listener({ responseId: 'b', type: 'batch_ad_loaded', batchId, ad: createProps('b') });
+      listener({ responseId: '', type: 'batch_completed', batchId, loaded: 2 });
+
+      const nativeAds = await promise;
+      expect(nativeAds.map(nativeAd => nativeAd.responseId)).toEqual(['a', 'b']);
+      expect(onAdLoaded).toBeCalledTimes(2);
+    });
+
+    it('rejects if no ad could be loaded', async () => {
+      const promise = NativeAd.loadMany('abc', 3);
+      const batchId = (NativeGoogleMobileAdsNativeModule.loadMany as jest.Mock).mock.calls[0][0];
+      const listener = (NativeGoogleMobileAdsNativeModule.onAdEvent as unknown as jest.Mock).mock
+        .calls[0][0] as (payload: NativeAdBatchEventPayload) => void;
+
+      listener({
+        responseId: '',
+        type: 'batch_completed',
+        batchId,
+        loaded: 0,
+        error: { code: 'no-fill', message: 'No fill.' },
+      });
+
+      await expect(promise).rejects.toThrowError('[no-fill] No fill.');
+    });
+  });
+
+  describe('prefetch', () => {
+    afterEach(() => {
+      jest.clearAllMocks();
+    });
+
+    it('throws if watermarks are invalid', () => {
+      expect(() => NativeAd.configurePrefetch('feed', 'abc', { lowWatermark: -1 })).toThrowError(
+        "NativeAd.configurePrefetch(_, _, *) 'options.lowWatermark' expected a positive number value.",
+      );
+      expect(() =>
+        NativeAd.configurePrefetch('feed', 'abc', { lowWatermark: 2, highWatermark: 2 }),
+      ).toThrowError(
+        "NativeAd.configurePrefetch(_, _, *) 'options.highWatermark' expected a number greater than 'options.lowWatermark'.",
+      );
+    });
+
+    it('does call native prefetch method', () => {
+      NativeAd.configurePrefetch('feed', 'abc', { highWatermark: 5, requestOptions: {} });
+      expect(NativeGoogleMobileAdsNativeModule.configurePrefetch).toBeCalledWith(
+        'feed',
+        'abc',
+        1,
+        5,
+        {},
+      );
+    });
+
+    it('dequeues loaded ads synchronously', () => {
+      NativeAd.configurePrefetch('feed', 'abc');
+      expect(NativeAd.dequeue('feed')).toBeNull();
+
+      (NativeGoogleMobileAdsNativeModule.dequeue as jest.Mock).mockReturnValueOnce(createProps('a'));
+      const nativeAd = NativeAd.dequeue('feed');
+      expect(nativeAd?.responseId).toEqual('a');
+      expect(nativeAd?.adUnitId).toEqual('abc');
+    });
+  });
+
+  describe('placement', () => {
+    afterEach(() => {
+      jest.clearAllMocks();
+    });
+
+    it('throws if spacing rules are invalid', () => {
+      expect(() => NativeAd.configurePlacement('feed', 'abc', { spacing: -1 })).toThrowError(
+        "NativeAd.configurePlacement(_, _, *) 'options.spacing' expected a positive number value.",
+      );
+      expect(() =>
+        NativeAd.configurePlacement('feed', 'abc', { preloadDistance: 10, recycleDistance: 5 }),
+      ).toThrowError(
+        "NativeAd.configurePlacement(_, _, *) 'options.recycleDistance' expected a number not less than 'options.preloadDistance'.",
+      );
+      expect(NativeGoogleMobileAdsNativeModule.configurePrefetch).not.toBeCalled();
+    });
+
+    it('does call native placement methods', () => {
+      NativeAd.configurePlacement('feed', 'abc', { firstPosition: 3, spacing: 8 });
+      expect(NativeGoogleMobileAdsNativeModule.configurePrefetch).toBeCalledWith(
+        'feed',
+        'abc',
+        1,
+        3,
+        {},
+      );
+      expect(NativeGoogleMobileAdsNativeModule.configurePlacement).toBeCalledWith(
+        'feed',
+        3,
+        8,
+        0,
+        10,
+        30,
+      );
+
+      NativeAd.setVisibleRange('feed', 0, 6);
+      expect(NativeGoogleMobileAdsNativeModule.setVisibleRange).toBeCalledWith('feed', 0, 6);
+    });
+
+    it('returns the same ad for a position', () => {
+      NativeAd.configurePlacement('feed', 'abc');
+      expect(NativeAd.getAdAtPosition('feed', 2)).toBeNull();
+
+      (NativeGoogleMobileAdsNativeModule.getAdAtPosition as jest.Mock).mockReturnValue(
+        createProps('a'),
+      );
+      const nativeAd = NativeAd.getAdAtPosition('feed', 2);
+      expect(nativeAd?.responseId).toEqual('a');
+      expect(nativeAd?.adUnitId).toEqual('abc');
+      expect(NativeAd.getAdAtPosition('feed', 2)).toBe(nativeAd);
+      (NativeGoogleMobileAdsNativeModule.getAdAtPosition as jest.Mock).mockReset();
+    });
+
+    it('notifies about assigned ads', () => {
+      const onAdsAssigned = jest.fn();
+      NativeAd.configurePlacement('feed', 'abc', { onAdsAssigned });
+      const listener = (NativeGoogleMobileAdsNativeModule.onAdEvent as unknown as jest.Mock).mock
+        .calls[0][0] as (payload: NativeAdPlacementEventPayload) => void;
+
+      listener({ responseId: '', type: 'placement_updated', placement: 'other', positions: [2] });
+      listener({ responseId: '', type: 'placement_updated', placement: 'feed', positions: [2, 8] });
+      expect(onAdsAssigned).toBeCalledTimes(1);
+      expect(onAdsAssigned).toBeCalledWith([2, 8]);
+    });
+  });
+});
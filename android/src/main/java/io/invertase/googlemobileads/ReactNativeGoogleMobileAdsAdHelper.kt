@@ -48,6 +48,33 @@ class ReactNativeGoogleMobileAdsAdHelper<T>(private val ad: T) {
     }
   }
 
+  /**
+   * Drops every listener set on the ad, so it no longer references the module that loaded it.
+   */
+  fun clearListeners() {
+    when (ad) {
+      is AppOpenAd -> {
+        ad.fullScreenContentCallback = null
+        ad.onPaidEventListener = null
+      }
+      is InterstitialAd -> {
+        ad.fullScreenContentCallback = null
+        ad.onPaidEventListener = null
+      }
+      is RewardedAd -> {
+        ad.fullScreenContentCallback = null
+        ad.onPaidEventListener = null
+      }
+      is RewardedInterstitialAd -> {
+        ad.fullScreenContentCallback = null
+        ad.onPaidEventListener = null
+      }
+    }
+    if (ad is AdManagerInterstitialAd) {
+      ad.appEventListener = null
+    }
+  }
+
   fun setAppEventListener(appEventListener: AppEventListener) {
     if (ad is AdManagerInterstitialAd) {
       ad.appEventListener = appEventListener
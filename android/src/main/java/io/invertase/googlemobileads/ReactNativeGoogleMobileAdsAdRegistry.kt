@@ -0,0 +1,170 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import io.invertase.googlemobileads.common.ReactNativeJSON
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Loaded full-screen ads of every format, keyed by the generation of the module that loaded them
+ * and the JS requestId.
+ *
+ * Each module instance takes a new generation, so requestIds that JS hands out again after a
+ * reload never alias ads from before it. A module serves a single format, so its generation also
+ * bounds that format: once it holds more than `android_full_screen_ad_registry_max_size` ads its
+ * oldest one is evicted, without touching the ads of other formats. Entries expire after their
+ * TTL. In both cases the entry's eviction callback is told why.
+ *
+ * Lookups, inserts and removals are O(1) and lock-free.
+ */
+object ReactNativeGoogleMobileAdsAdRegistry {
+  const val REASON_EXPIRED = "expired"
+  const val REASON_EVICTED = "evicted"
+
+  private const val MAX_SIZE_KEY = "android_full_screen_ad_registry_max_size"
+
+  private val lastGeneration = AtomicInteger()
+  private val entries = ConcurrentHashMap<Long, Entry>()
+  private val generations = ConcurrentHashMap<Int, Generation>()
+  private val handler = Handler(Looper.getMainLooper())
+  private val maxSize by lazy {
+    ReactNativeJSON.getSharedInstance().getIntValue(MAX_SIZE_KEY, 32)
+  }
+
+  private class Entry(
+    val key: Long,
+    val value: Any,
+    val expiresAt: Long,
+    val onEvicted: (reason: String) -> Unit
+  )
+
+  /**
+   * The entries of one generation in insertion order. Entries removed by other means stay in
+   * [order] until they reach its head, [size] only counts those still registered.
+   */
+  private class Generation {
+    val order = ConcurrentLinkedQueue<Entry>()
+    val size = AtomicInteger()
+  }
+
+  fun newGeneration(): Int {
+    val generation = lastGeneration.incrementAndGet()
+    generations[generation] = Generation()
+    return generation
+  }
+
+  private fun getKey(generation: Int, requestId: Int): Long {
+    return (generation.toLong() shl 32) or (requestId.toLong() and 0xFFFFFFFFL)
+  }
+
+  private fun getGeneration(key: Long): Int {
+    return (key ushr 32).toInt()
+  }
+
+  fun put(
+    generation: Int,
+    requestId: Int,
+    value: Any,
+    ttlMillis: Long,
+    onEvicted: (reason: String) -> Unit
+  ) {
+    val ownGeneration = generations[generation] ?: return
+    val key = getKey(generation, requestId)
+    val entry = Entry(key, value, SystemClock.elapsedRealtime() + ttlMillis, onEvicted)
+    val replaced = entries.put(key, entry)
+    if (replaced == null) {
+      ownGeneration.size.incrementAndGet()
+    } else {
+      handler.removeCallbacksAndMessages(replaced)
+    }
+    ownGeneration.order.add(entry)
+    handler.postAtTime(
+      { evict(entry, REASON_EXPIRED) },
+      entry,
+      SystemClock.uptimeMillis() + ttlMillis
+    )
+
+    while (ownGeneration.size.get() > maxSize) {
+      val oldest = ownGeneration.order.poll() ?: break
+      evict(oldest, REASON_EVICTED)
+    }
+    // Drops entries that were removed by other means from the head, so the queue stays short.
+    while (true) {
+      val head = ownGeneration.order.peek() ?: break
+      if (entries[head.key] === head || !ownGeneration.order.remove(head)) {
+        break
+      }
+    }
+  }
+
+  fun get(generation: Int, requestId: Int): Any? {
+    val entry = entries[getKey(generation, requestId)] ?: return null
+    // The expiry timer does not run while the device sleeps, so it may not have fired yet.
+    if (SystemClock.elapsedRealtime() >= entry.expiresAt) {
+      evict(entry, REASON_EXPIRED)
+      return null
+    }
+    return entry.value
+  }
+
+  /**
+   * Removes the entry for [requestId], but only while it still holds [value].
+   */
+  fun remove(generation: Int, requestId: Int, value: Any): Boolean {
+    val entry = entries[getKey(generation, requestId)] ?: return false
+    return entry.value === value && unregister(entry)
+  }
+
+  /**
+   * Drops every entry of [generation] without notifying anyone, for when its module is gone, and
+   * returns their distinct values.
+   */
+  fun removeGeneration(generation: Int): List<Any> {
+    val ownGeneration = generations.remove(generation) ?: return emptyList()
+    val removed = ArrayList<Any>()
+    for (entry in ownGeneration.order) {
+      if (entries.remove(entry.key, entry)) {
+        handler.removeCallbacksAndMessages(entry)
+        if (removed.none { it === entry.value }) {
+          removed.add(entry.value)
+        }
+      }
+    }
+    return removed
+  }
+
+  private fun evict(entry: Entry, reason: String) {
+    if (unregister(entry)) {
+      entry.onEvicted(reason)
+    }
+  }
+
+  private fun unregister(entry: Entry): Boolean {
+    if (!entries.remove(entry.key, entry)) {
+      return false
+    }
+    generations[getGeneration(entry.key)]?.size?.decrementAndGet()
+    handler.removeCallbacksAndMessages(entry)
+    return true
+  }
+}
@@ -0,0 +1,96 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.os.SystemClock
+import com.facebook.react.bridge.ReadableMap
+
+/**
+ * Process-scoped parking space for loaded ads whose React instance went away.
+ *
+ * When a module is invalidated (fast refresh, OTA reload, ...) its unshown ads are parked here
+ * instead of being thrown away. The next load of the same kind, ad unit and request options
+ * adopts one of them instead of going to the network, which is how a new JS runtime reattaches
+ * to inventory loaded by the previous one.
+ */
+object ReactNativeGoogleMobileAdsAdStore {
+  private const val MAX_SIZE = 16
+
+  class ParkedAd(val key: String, val ad: Any, val expiresAt: Long, val onDiscard: () -> Unit)
+
+  private val entries = ArrayDeque<ParkedAd>()
+
+  /**
+   * Builds the key ads are parked and adopted under. Request options are compared by value, with
+   * map keys sorted, so equal options produce the same key regardless of their order.
+   */
+  fun getKey(kind: String, adUnitId: String, requestOptions: ReadableMap): String {
+    return "$kind:$adUnitId:${getRequestFingerprint(requestOptions)}"
+  }
+
+  fun getRequestFingerprint(value: Any?): String {
+    return when (value) {
+      is ReadableMap -> getRequestFingerprint(value.toHashMap())
+      is Map<*, *> -> value.entries
+        .sortedBy { it.key.toString() }
+        .joinToString(",", "{", "}") { "${it.key}=${getRequestFingerprint(it.value)}" }
+      is List<*> -> value.joinToString(",", "[", "]") { getRequestFingerprint(it) }
+      else -> value.toString()
+    }
+  }
+
+  /**
+   * Parks [ad] until [expiresAt] (an elapsedRealtime timestamp). [onDiscard] releases the ad if
+   * it expires or is pushed out before anyone adopts it.
+   */
+  fun park(key: String, ad: Any, expiresAt: Long, onDiscard: () -> Unit = {}) {
+    val discarded = ArrayList<ParkedAd>()
+    synchronized(entries) {
+      entries.addLast(ParkedAd(key, ad, expiresAt, onDiscard))
+      discarded.addAll(takeExpired())
+      while (entries.size > MAX_SIZE) {
+        discarded.add(entries.removeFirst())
+      }
+    }
+    discarded.forEach { it.onDiscard() }
+  }
+
+  /**
+   * Takes the oldest still valid ad parked under [key], or returns null.
+   */
+  fun adopt(key: String): ParkedAd? {
+    val discarded: List<ParkedAd>
+    val adopted: ParkedAd?
+    synchronized(entries) {
+      discarded = takeExpired()
+      adopted = entries.firstOrNull { it.key == key }
+      if (adopted != null) {
+        entries.remove(adopted)
+      }
+    }
+    discarded.forEach { it.onDiscard() }
+    return adopted
+  }
+
+  private fun takeExpired(): List<ParkedAd> {
+    val now = SystemClock.elapsedRealtime()
+    val expired = entries.filter { now >= it.expiresAt }
+    entries.removeAll(expired)
+    return expired
+  }
+}
@@ -0,0 +1,84 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.app.Activity
+import android.app.Application
+import android.os.Bundle
+import android.os.SystemClock
+import com.google.android.gms.ads.AdActivity
+
+/**
+ * Watches the activities of the process and reports when the app comes back to the foreground,
+ * together with how long it was in the background.
+ *
+ * All callbacks are delivered on the main thread.
+ */
+class ReactNativeGoogleMobileAdsAppOpenAutoShow(
+  private val application: Application,
+  hasStartedActivity: Boolean,
+  private val onForeground: (activity: Activity, backgroundMillis: Long) -> Unit
+) : Application.ActivityLifecycleCallbacks {
+  private var startedActivities = if (hasStartedActivity) 1 else 0
+  private var backgroundedAt = 0L
+  private var isChangingConfigurations = false
+
+  fun register() {
+    application.registerActivityLifecycleCallbacks(this)
+  }
+
+  fun unregister() {
+    application.unregisterActivityLifecycleCallbacks(this)
+  }
+
+  override fun onActivityStarted(activity: Activity) {
+    val wasInBackground = startedActivities == 0
+    startedActivities++
+    if (isChangingConfigurations) {
+      // The activity was recreated, the app never left the foreground.
+      isChangingConfigurations = false
+      return
+    }
+    // Returning from a full-screen ad's own activity is not a foreground transition of the app.
+    if (wasInBackground && backgroundedAt > 0 && activity !is AdActivity) {
+      onForeground(activity, SystemClock.elapsedRealtime() - backgroundedAt)
+    }
+  }
+
+  override fun onActivityStopped(activity: Activity) {
+    startedActivities = maxOf(0, startedActivities - 1)
+    if (startedActivities > 0) {
+      return
+    }
+    if (activity.isChangingConfigurations) {
+      isChangingConfigurations = true
+      return
+    }
+    backgroundedAt = SystemClock.elapsedRealtime()
+  }
+
+  override fun onActivityCreated(activity: Activity, savedInstanceState: Bundle?) {}
+
+  override fun onActivityResumed(activity: Activity) {}
+
+  override fun onActivityPaused(activity: Activity) {}
+
+  override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) {}
+
+  override fun onActivityDestroyed(activity: Activity) {}
+}
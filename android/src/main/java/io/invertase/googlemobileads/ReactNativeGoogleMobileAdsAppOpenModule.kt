@@ -17,11 +17,15 @@ package io.invertase.googlemobileads
  *
  */
 
-import android.app.Activity
+import android.app.Application
+import android.content.Context
+import android.os.SystemClock
+import android.util.Log
 import com.facebook.react.bridge.Promise
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactMethod
 import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.UiThreadUtil
 import com.google.android.gms.ads.AdLoadCallback
 import com.google.android.gms.ads.LoadAdError
 import com.google.android.gms.ads.admanager.AdManagerAdRequest
@@ -29,11 +33,17 @@ import com.google.android.gms.ads.appopen.AppOpenAd
 
 class ReactNativeGoogleMobileAdsAppOpenModule(reactContext: ReactApplicationContext?) :
   ReactNativeGoogleMobileAdsFullScreenAdModule<AppOpenAd>(reactContext, NAME) {
+  private var autoShow: ReactNativeGoogleMobileAdsAppOpenAutoShow? = null
+  private var lastAutoShownAt = 0L
 
   override fun getAdEventName(): String {
     return ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_APP_OPEN
   }
 
+  override fun getAdExpiryMillis(): Long {
+    return AD_EXPIRY_MILLIS
+  }
+
   @ReactMethod
   fun appOpenLoad(requestId: Int, adUnitId: String, adRequestOptions: ReadableMap) {
     load(requestId, adUnitId, adRequestOptions)
@@ -46,28 +56,106 @@ class ReactNativeGoogleMobileAdsAppOpenModule(reactContext: ReactApplicationCont
     show(requestId, adUnitId, showOptions, promise)
   }
 
+  @ReactMethod
+  fun appOpenPreload(adUnitId: String, adRequestOptions: ReadableMap, depth: Int) {
+    preload(adUnitId, adRequestOptions, depth)
+  }
+
+  /**
+   * Shows a preloaded app open ad natively whenever the app returns to the foreground, instead of
+   * waiting for JS to notice the transition. Events of the shown ad are sent to [requestId].
+   */
+  @ReactMethod
+  fun appOpenSetAutoShow(
+    requestId: Int, adUnitId: String, adRequestOptions: ReadableMap, autoShowOptions: ReadableMap
+  ) {
+    val enabled = !autoShowOptions.hasKey("enabled") || autoShowOptions.getBoolean("enabled")
+    val cooldownMillis = getMillisOption(autoShowOptions, "cooldown", 0L)
+    val minimumBackgroundMillis = getMillisOption(autoShowOptions, "minimumBackgroundDuration", 0L)
+    val maxAdAgeMillis = getMillisOption(autoShowOptions, "maxAdAge", AD_EXPIRY_MILLIS)
+    val immersiveModeEnabled = autoShowOptions.hasKey("immersiveModeEnabled") &&
+      autoShowOptions.getBoolean("immersiveModeEnabled")
+
+    UiThreadUtil.runOnUiThread {
+      autoShow?.unregister()
+      autoShow = null
+      if (!enabled) {
+        return@runOnUiThread
+      }
+
+      if (getPreloadPool(adUnitId) == null) {
+        preload(adUnitId, adRequestOptions, 1)
+      }
+      val application = reactApplicationContext.applicationContext as Application
+      autoShow = ReactNativeGoogleMobileAdsAppOpenAutoShow(
+        application,
+        currentActivity != null
+      ) { activity, backgroundMillis ->
+        val now = SystemClock.elapsedRealtime()
+        val isCoolingDown = lastAutoShownAt > 0 && now - lastAutoShownAt < cooldownMillis
+        if (backgroundMillis >= minimumBackgroundMillis && !isCoolingDown) {
+          val shown = showPreloadedAd(
+            activity,
+            requestId,
+            adUnitId,
+            adRequestOptions,
+            immersiveModeEnabled,
+            maxAdAgeMillis
+          )
+          if (shown) {
+            lastAutoShownAt = now
+          } else {
+            Log.d("RNGoogleMobileAds", "No app open ad ready for $adUnitId on foreground")
+          }
+        }
+      }.also { it.register() }
+    }
+  }
+
+  private fun getMillisOption(options: ReadableMap, key: String, defaultValue: Long): Long {
+    return if (options.hasKey(key)) options.getDouble(key).toLong() else defaultValue
+  }
+
+  override fun invalidate() {
+    super.invalidate()
+    UiThreadUtil.runOnUiThread {
+      autoShow?.unregister()
+      autoShow = null
+    }
+  }
+
   override fun loadAd(
-    activity: Activity,
+    context: Context,
     adUnitId: String,
     adRequest: AdManagerAdRequest,
     adLoadCallback: AdLoadCallback<AppOpenAd>
   ) {
-    AppOpenAd.load(
-      activity,
-      adUnitId,
-      adRequest,
-      object :
-        AppOpenAd.AppOpenAdLoadCallback() {
-        override fun onAdLoaded(ad: AppOpenAd) {
-          adLoadCallback.onAdLoaded(ad)
-        }
-        override fun onAdFailedToLoad(error: LoadAdError) {
-          adLoadCallback.onAdFailedToLoad(error)
-        }
-      })
+    Companion.loadAd(context, adUnitId, adRequest, adLoadCallback)
   }
 
   companion object {
     const val NAME = "RNGoogleMobileAdsAppOpenModule"
+    const val AD_EXPIRY_MILLIS = 4 * 60 * 60 * 1000L
+
+    fun loadAd(
+      context: Context,
+      adUnitId: String,
+      adRequest: AdManagerAdRequest,
+      adLoadCallback: AdLoadCallback<AppOpenAd>
+    ) {
+      AppOpenAd.load(
+        context,
+        adUnitId,
+        adRequest,
+        object :
+          AppOpenAd.AppOpenAdLoadCallback() {
+          override fun onAdLoaded(ad: AppOpenAd) {
+            adLoadCallback.onAdLoaded(ad)
+          }
+          override fun onAdFailedToLoad(error: LoadAdError) {
+            adLoadCallback.onAdFailedToLoad(error)
+          }
+        })
+    }
   }
 }
@@ -100,7 +100,7 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
     } else if (commandId.equals(COMMAND_ID_LOAD)) {
       BaseAdView adView = getAdView(reactViewGroup);
       AdRequest request = reactViewGroup.getRequest();
-      adView.loadAd(request);
+      loadAd(reactViewGroup, adView, request);
     }
   }
 
@@ -110,6 +110,12 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
     reactViewGroup.setPropsChanged(true);
   }
 
+  @ReactProp(name = "slotId")
+  public void setSlotId(ReactNativeAdView reactViewGroup, @Nullable String value) {
+    reactViewGroup.setSlotId(value);
+    reactViewGroup.setPropsChanged(true);
+  }
+
   @ReactProp(name = "request")
   public void setRequest(ReactNativeAdView reactViewGroup, String value) {
     try {
@@ -201,7 +207,8 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
     super.onDropViewInstance(reactViewGroup);
   }
 
-  private BaseAdView initAdView(ReactNativeAdView reactViewGroup) {
+  private BaseAdView initAdView(
+      ReactNativeAdView reactViewGroup, @Nullable BaseAdView preloadedAdView) {
     BaseAdView oldAdView = getAdView(reactViewGroup);
     if (oldAdView != null) {
       oldAdView.setAdListener(null);
@@ -212,16 +219,9 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
       reactViewGroup.removeView(oldAdView);
     }
 
-    // For optimal mediation performance ad objects should be initialized with
-    // activity, rather than just context:
-    // https://developers.google.com/admob/android/mediation#initialize_your_ad_object_with_an_activity_instance
-    Activity currentActivity = ((ReactContext) reactViewGroup.getContext()).getCurrentActivity();
-    if (currentActivity == null) return null;
-
     BaseAdView adView =
-        ReactNativeGoogleMobileAdsCommon.isAdManagerUnit(reactViewGroup.getUnitId())
-            ? new AdManagerAdView(currentActivity)
-            : new AdView(currentActivity);
+        preloadedAdView != null ? preloadedAdView : createAdView(reactViewGroup);
+    if (adView == null) return null;
 
     adView.setDescendantFocusability(ViewGroup.FOCUS_BLOCK_DESCENDANTS);
     adView.setOnPaidEventListener(
@@ -239,34 +239,7 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
         new AdListener() {
           @Override
           public void onAdLoaded() {
-            AdSize adSize = adView.getAdSize();
-            int width, height;
-            if (reactViewGroup.getIsFluid()) {
-              width = reactViewGroup.getWidth();
-              height = reactViewGroup.getHeight();
-
-              adView.addOnLayoutChangeListener(
-                  (v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
-                    WritableMap payload = Arguments.createMap();
-                    payload.putDouble("width", PixelUtil.toDIPFromPixel(right - left));
-                    payload.putDouble("height", PixelUtil.toDIPFromPixel(bottom - top));
-                    sendEvent(reactViewGroup, EVENT_SIZE_CHANGE, payload);
-                  });
-            } else {
-              int left = adView.getLeft();
-              int top = adView.getTop();
-              width = adSize.getWidthInPixels(reactViewGroup.getContext());
-              height = adSize.getHeightInPixels(reactViewGroup.getContext());
-
-              adView.measure(width, height);
-              adView.layout(left, top, left + width, top + height);
-            }
-
-            WritableMap payload = Arguments.createMap();
-            payload.putDouble("width", PixelUtil.toDIPFromPixel(width));
-            payload.putDouble("height", PixelUtil.toDIPFromPixel(height));
-
-            sendEvent(reactViewGroup, EVENT_AD_LOADED, payload);
+            ReactNativeGoogleMobileAdsBannerAdViewManager.this.onAdLoaded(reactViewGroup, adView);
           }
 
           @Override
@@ -313,6 +286,50 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
     return adView;
   }
 
+  private void onAdLoaded(ReactNativeAdView reactViewGroup, BaseAdView adView) {
+    AdSize adSize = adView.getAdSize();
+    int width, height;
+    if (reactViewGroup.getIsFluid()) {
+      width = reactViewGroup.getWidth();
+      height = reactViewGroup.getHeight();
+
+      adView.addOnLayoutChangeListener(
+          (v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
+            WritableMap payload = Arguments.createMap();
+            payload.putDouble("width", PixelUtil.toDIPFromPixel(right - left));
+            payload.putDouble("height", PixelUtil.toDIPFromPixel(bottom - top));
+            sendEvent(reactViewGroup, EVENT_SIZE_CHANGE, payload);
+          });
+    } else {
+      int left = adView.getLeft();
+      int top = adView.getTop();
+      width = adSize.getWidthInPixels(reactViewGroup.getContext());
+      height = adSize.getHeightInPixels(reactViewGroup.getContext());
+
+      adView.measure(width, height);
+      adView.layout(left, top, left + width, top + height);
+    }
+
+    WritableMap payload = Arguments.createMap();
+    payload.putDouble("width", PixelUtil.toDIPFromPixel(width));
+    payload.putDouble("height", PixelUtil.toDIPFromPixel(height));
+
+    sendEvent(reactViewGroup, EVENT_AD_LOADED, payload);
+  }
+
+  @Nullable
+  private BaseAdView createAdView(ReactNativeAdView reactViewGroup) {
+    // For optimal mediation performance ad objects should be initialized with
+    // activity, rather than just context:
+    // https://developers.google.com/admob/android/mediation#initialize_your_ad_object_with_an_activity_instance
+    Activity currentActivity = ((ReactContext) reactViewGroup.getContext()).getCurrentActivity();
+    if (currentActivity == null) return null;
+
+    return ReactNativeGoogleMobileAdsCommon.isAdManagerUnit(reactViewGroup.getUnitId())
+        ? new AdManagerAdView(currentActivity)
+        : new AdView(currentActivity);
+  }
+
   @Nullable
   private BaseAdView getAdView(ViewGroup reactViewGroup) {
     return (BaseAdView) reactViewGroup.getChildAt(0);
@@ -328,7 +345,21 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
       return;
     }
 
-    BaseAdView adView = initAdView(reactViewGroup);
+    // A banner that won a multi-format request is already loaded, it only needs to be shown.
+    String slotId = reactViewGroup.getSlotId();
+    if (slotId != null) {
+      AdManagerAdView slotAdView = ReactNativeGoogleMobileAdsBannerSlots.INSTANCE.take(slotId);
+      if (slotAdView != null) {
+        BaseAdView adView = initAdView(reactViewGroup, slotAdView);
+        if (adView != null) {
+          reactViewGroup.setIsFluid(sizes.contains(AdSize.FLUID));
+          onAdLoaded(reactViewGroup, adView);
+          return;
+        }
+      }
+    }
+
+    BaseAdView adView = initAdView(reactViewGroup, null);
     if (adView != null) {
       adView.setAdUnitId(unitId);
       reactViewGroup.setIsFluid(false);
@@ -345,10 +376,33 @@ public class ReactNativeGoogleMobileAdsBannerAdViewManager
         adView.setAdSize(sizes.get(0));
       }
 
-      adView.loadAd(request);
+      loadAd(reactViewGroup, adView, request);
     }
   }
 
+  /**
+   * Loads {@code adView} once the user's consent allows it, see {@link
+   * ReactNativeGoogleMobileAdsConsentGate}.
+   */
+  private void loadAd(ReactNativeAdView reactViewGroup, BaseAdView adView, AdRequest request) {
+    ReactNativeGoogleMobileAdsConsentGate.INSTANCE.await(
+        reactViewGroup.getContext(),
+        canRequestAds -> {
+          // The view may have been dropped or got a new ad view while waiting for consent.
+          if (getAdView(reactViewGroup) != adView) {
+            return;
+          }
+          if (canRequestAds) {
+            adView.loadAd(request);
+          } else {
+            WritableMap payload = Arguments.createMap();
+            payload.putString("code", ReactNativeGoogleMobileAdsConsentGate.ERROR_CODE);
+            payload.putString("message", ReactNativeGoogleMobileAdsConsentGate.ERROR_MESSAGE);
+            sendEvent(reactViewGroup, EVENT_AD_FAILED_TO_LOAD, payload);
+          }
+        });
+  }
+
   private void sendEvent(ReactNativeAdView reactViewGroup, String type, WritableMap payload) {
     WritableMap event = Arguments.createMap();
     event.putString("type", type);
@@ -0,0 +1,87 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.os.SystemClock
+import com.facebook.react.bridge.UiThreadUtil
+import com.google.android.gms.ads.admanager.AdManagerAdView
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Banners that won a multi-format request, waiting for the banner view that shows them.
+ *
+ * The view is expected to mount right after the request resolved, so slots are few and short
+ * lived: a banner nobody took within [TTL_MILLIS], or pushed out by [MAX_SIZE] newer ones, is
+ * destroyed. Kept apart from [ReactNativeGoogleMobileAdsAdStore] so parked full-screen ads cannot
+ * push banners out before their view mounts.
+ */
+object ReactNativeGoogleMobileAdsBannerSlots {
+  private const val MAX_SIZE = 8
+  private const val TTL_MILLIS = 5 * 60 * 1000L
+
+  private class Slot(val adView: AdManagerAdView, val expiresAt: Long)
+
+  // Guarded by itself, in insertion order.
+  private val slots = LinkedHashMap<String, Slot>()
+  private val lastSlotId = AtomicInteger()
+
+  /**
+   * Keeps [adView] and returns the slotId a banner view takes it with.
+   */
+  fun put(adView: AdManagerAdView): String {
+    val slotId = "banner_slot:${lastSlotId.incrementAndGet()}"
+    val discarded = ArrayList<AdManagerAdView>()
+    synchronized(slots) {
+      slots[slotId] = Slot(adView, SystemClock.elapsedRealtime() + TTL_MILLIS)
+      discarded.addAll(takeExpired())
+      while (slots.size > MAX_SIZE) {
+        val oldest = slots.keys.first()
+        slots.remove(oldest)?.let { discarded.add(it.adView) }
+      }
+    }
+    destroy(discarded)
+    return slotId
+  }
+
+  /**
+   * Takes the banner of [slotId], or returns null if it was taken already or discarded.
+   */
+  fun take(slotId: String): AdManagerAdView? {
+    val discarded: List<AdManagerAdView>
+    val slot: Slot?
+    synchronized(slots) {
+      discarded = takeExpired()
+      slot = slots.remove(slotId)
+    }
+    destroy(discarded)
+    return slot?.adView
+  }
+
+  private fun takeExpired(): List<AdManagerAdView> {
+    val now = SystemClock.elapsedRealtime()
+    val expired = slots.filterValues { now >= it.expiresAt }
+    expired.keys.forEach { slots.remove(it) }
+    return expired.values.map { it.adView }
+  }
+
+  private fun destroy(adViews: List<AdManagerAdView>) {
+    if (adViews.isNotEmpty()) {
+      UiThreadUtil.runOnUiThread { adViews.forEach { it.destroy() } }
+    }
+  }
+}
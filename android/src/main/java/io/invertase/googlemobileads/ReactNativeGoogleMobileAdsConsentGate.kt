@@ -0,0 +1,140 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.content.Context
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import com.google.android.ump.UserMessagingPlatform
+import io.invertase.googlemobileads.common.ReactNativeJSON
+
+/**
+ * Holds ad loads back until the user's consent is known, so JS can start loading ads right away
+ * instead of first awaiting `AdsConsent.requestInfoUpdate()` and checking `canRequestAds`.
+ *
+ * Enabled by `android_wait_for_consent` in app.json. While ads cannot be requested, loads wait
+ * here and are released as soon as a step of the consent flow makes `canRequestAds()` true, or
+ * rejected once the flow finished without that. From then on loads are released or rejected
+ * right away, until the consent information is reset.
+ *
+ * Loads do not wait longer than `android_wait_for_consent_timeout_seconds` (10 by default), so
+ * an app that never finishes the consent flow does not hold them back forever. When the timeout
+ * hits they are released or rejected by whether ads can be requested at that point.
+ */
+object ReactNativeGoogleMobileAdsConsentGate {
+  private const val ENABLED_KEY = "android_wait_for_consent"
+  private const val TIMEOUT_KEY = "android_wait_for_consent_timeout_seconds"
+
+  const val ERROR_CODE = "consent-required"
+  const val ERROR_MESSAGE = "Ads cannot be requested because the user's consent was not obtained."
+
+  private val isEnabled by lazy {
+    ReactNativeJSON.getSharedInstance().getBooleanValue(ENABLED_KEY, false)
+  }
+  private val timeoutMillis by lazy {
+    ReactNativeJSON.getSharedInstance().getLongValue(TIMEOUT_KEY, 10) * 1000
+  }
+  private val handler = Handler(Looper.getMainLooper())
+
+  // Guarded by this.
+  private val pendingListeners = ArrayList<Listener>()
+  private var isSettled = false
+
+  fun interface Listener {
+    fun onConsentResolved(canRequestAds: Boolean)
+  }
+
+  /**
+   * Calls [listener] with true once ads may be requested, or with false if the consent flow
+   * finished without allowing it. If the gate is disabled or ads may already be requested, it is
+   * called right away on the calling thread, otherwise on the thread the consent flow reports on,
+   * or on the main thread once the wait timed out.
+   */
+  fun await(context: Context, listener: Listener) {
+    if (!isEnabled || canRequestAds(context)) {
+      listener.onConsentResolved(true)
+      return
+    }
+    synchronized(this) {
+      if (!isSettled) {
+        pendingListeners.add(listener)
+        if (pendingListeners.size == 1) {
+          val applicationContext = context.applicationContext
+          handler.postAtTime(
+            { onTimeout(applicationContext) },
+            this,
+            SystemClock.uptimeMillis() + timeoutMillis
+          )
+        }
+        return
+      }
+    }
+    listener.onConsentResolved(false)
+  }
+
+  /**
+   * Called by the consent module after each step of the consent flow. [isFinal] is false while a
+   * consent form may still change the outcome, in which case waiting loads are only released.
+   */
+  fun onConsentUpdated(context: Context, isFinal: Boolean) {
+    if (!isEnabled) {
+      return
+    }
+    val canRequestAds = canRequestAds(context)
+    if (!canRequestAds && !isFinal) {
+      return
+    }
+    val listeners = synchronized(this) {
+      isSettled = true
+      takePendingListeners()
+    }
+    listeners.forEach { it.onConsentResolved(canRequestAds) }
+  }
+
+  /**
+   * Settles the loads that waited too long. Later loads still wait for the consent flow.
+   */
+  private fun onTimeout(context: Context) {
+    val listeners = synchronized(this) { takePendingListeners() }
+    if (listeners.isEmpty()) {
+      return
+    }
+    val canRequestAds = canRequestAds(context)
+    listeners.forEach { it.onConsentResolved(canRequestAds) }
+  }
+
+  // Must hold the gate's lock.
+  private fun takePendingListeners(): List<Listener> {
+    handler.removeCallbacksAndMessages(this)
+    return ArrayList(pendingListeners).also { pendingListeners.clear() }
+  }
+
+  /**
+   * Called when the consent information was reset. Later loads wait for the next consent flow.
+   */
+  fun onConsentReset() {
+    synchronized(this) {
+      isSettled = false
+    }
+  }
+
+  private fun canRequestAds(context: Context): Boolean {
+    return UserMessagingPlatform.getConsentInformation(context.applicationContext).canRequestAds()
+  }
+}
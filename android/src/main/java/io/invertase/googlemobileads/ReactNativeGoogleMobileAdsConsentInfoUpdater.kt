@@ -0,0 +1,179 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.app.Activity
+import android.content.Context
+import com.google.android.ump.ConsentInformation
+import com.google.android.ump.ConsentRequestParameters
+import com.google.android.ump.FormError
+import com.google.android.ump.UserMessagingPlatform
+import io.invertase.googlemobileads.common.ReactNativeJSON
+
+/**
+ * Runs consent information updates, so the app does not wait for one on every launch.
+ *
+ * With `android_consent_info_ttl_seconds` set in app.json, an update with the same parameters as
+ * the last successful one less than that long ago completes right away with the consent status
+ * the UMP SDK kept from then, and a fresh update runs in the background. This only happens while
+ * that status is OBTAINED or NOT_REQUIRED, a user who still has to see a consent form always
+ * waits for the update.
+ *
+ * Updates with the same parameters that overlap share one request. How long callers waited is
+ * recorded in the `consent` group of [ReactNativeGoogleMobileAdsLatencyStats], and how long the
+ * background updates took, which also counts the callers that did not wait.
+ */
+object ReactNativeGoogleMobileAdsConsentInfoUpdater {
+  private const val TTL_KEY = "android_consent_info_ttl_seconds"
+  private const val PREFERENCES_NAME = "io.invertase.googlemobileads.consent_info"
+  private const val UPDATED_AT_KEY = "updated_at"
+  private const val PARAMETERS_KEY = "parameters"
+
+  private const val STATS_GROUP = "consent"
+  private const val METRIC_UPDATE = "info_update"
+  private const val METRIC_SHARED = "info_update_shared"
+  private const val METRIC_BACKGROUND = "info_update_background"
+
+  private val ttlMillis by lazy {
+    ReactNativeJSON.getSharedInstance().getLongValue(TTL_KEY, 0) * 1000
+  }
+
+  fun interface Callback {
+    /**
+     * Called once the update finished, with the error if it failed. A reused update completes on
+     * the calling thread, any other on the main thread.
+     */
+    fun onComplete(error: FormError?)
+  }
+
+  private class Waiter(val callback: Callback, val calledAt: Long, val metric: String)
+
+  private class Update(val parametersKey: String, val startedAt: Long) {
+    val waiters = ArrayList<Waiter>()
+  }
+
+  // Guarded by this.
+  private var inFlight: Update? = null
+
+  /**
+   * Updates the consent information with [parameters]. [parametersKey] identifies them: only an
+   * earlier update with the same key can be reused or shared.
+   */
+  fun requestUpdate(
+    activity: Activity,
+    parameters: ConsentRequestParameters,
+    parametersKey: String,
+    callback: Callback
+  ) {
+    val calledAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+    if (isFresh(activity, parametersKey)) {
+      callback.onComplete(null)
+      startUpdate(activity, parameters, parametersKey, null)
+      return
+    }
+    startUpdate(activity, parameters, parametersKey, Waiter(callback, calledAt, METRIC_UPDATE))
+  }
+
+  /**
+   * Forgets the last update, called when the consent information was reset.
+   */
+  fun invalidate(context: Context) {
+    getPreferences(context).edit().clear().apply()
+  }
+
+  private fun startUpdate(
+    activity: Activity,
+    parameters: ConsentRequestParameters,
+    parametersKey: String,
+    waiter: Waiter?
+  ) {
+    val update = synchronized(this) {
+      val current = inFlight
+      if (current != null && current.parametersKey == parametersKey) {
+        waiter?.let { current.waiters.add(Waiter(it.callback, it.calledAt, METRIC_SHARED)) }
+        return
+      }
+      Update(parametersKey, ReactNativeGoogleMobileAdsLatencyStats.now()).also {
+        waiter?.let(it.waiters::add)
+        inFlight = it
+      }
+    }
+    val context = activity.applicationContext
+    UserMessagingPlatform.getConsentInformation(context).requestConsentInfoUpdate(
+      activity,
+      parameters,
+      { onUpdateFinished(context, update, null) },
+      { error -> onUpdateFinished(context, update, error) }
+    )
+  }
+
+  private fun onUpdateFinished(context: Context, update: Update, error: FormError?) {
+    val waiters = synchronized(this) {
+      if (inFlight === update) {
+        inFlight = null
+      }
+      ArrayList(update.waiters)
+    }
+    if (error == null) {
+      getPreferences(context).edit()
+        .putLong(UPDATED_AT_KEY, System.currentTimeMillis())
+        .putString(PARAMETERS_KEY, update.parametersKey)
+        .apply()
+    }
+    if (waiters.isEmpty()) {
+      record(METRIC_BACKGROUND, update.startedAt)
+    }
+    for (waiter in waiters) {
+      record(waiter.metric, waiter.calledAt)
+      waiter.callback.onComplete(error)
+    }
+  }
+
+  private fun isFresh(context: Context, parametersKey: String): Boolean {
+    if (ttlMillis <= 0) {
+      return false
+    }
+    val consentStatus = UserMessagingPlatform.getConsentInformation(context).consentStatus
+    if (consentStatus != ConsentInformation.ConsentStatus.OBTAINED &&
+      consentStatus != ConsentInformation.ConsentStatus.NOT_REQUIRED
+    ) {
+      return false
+    }
+    val preferences = getPreferences(context)
+    if (preferences.getString(PARAMETERS_KEY, null) != parametersKey) {
+      return false
+    }
+    val age = System.currentTimeMillis() - preferences.getLong(UPDATED_AT_KEY, 0)
+    // A negative age means the clock was turned back, the update is not trusted then.
+    return age in 0 until ttlMillis
+  }
+
+  private fun record(metric: String, startedAt: Long) {
+    ReactNativeGoogleMobileAdsLatencyStats.record(
+      STATS_GROUP,
+      metric,
+      ReactNativeGoogleMobileAdsLatencyStats.millisBetween(
+        startedAt,
+        ReactNativeGoogleMobileAdsLatencyStats.now()
+      )
+    )
+  }
+
+  private fun getPreferences(context: Context) =
+    context.applicationContext.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE)
+}
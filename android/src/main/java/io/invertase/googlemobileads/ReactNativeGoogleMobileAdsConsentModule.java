@@ -17,20 +17,21 @@ package io.invertase.googlemobileads;
  *
  */
 import android.app.Activity;
-import android.content.SharedPreferences;
-import android.preference.PreferenceManager;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.ump.ConsentDebugSettings;
 import com.google.android.ump.ConsentInformation;
 import com.google.android.ump.ConsentRequestParameters;
 import com.google.android.ump.UserMessagingPlatform;
 import io.invertase.googlemobileads.common.ReactNativeModule;
+import java.util.BitSet;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
@@ -84,6 +85,15 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
     return consentStatusMap;
   }
 
+  /**
+   * Releases or rejects the ad loads waiting for consent. {@code isFinal} is false while a consent form
+   * may still change the outcome.
+   */
+  private void onConsentUpdated(boolean isFinal) {
+    ReactNativeGoogleMobileAdsConsentGate.INSTANCE.onConsentUpdated(
+        getReactApplicationContext(), isFinal);
+  }
+
   @ReactMethod
   public void requestInfoUpdate(@Nonnull final ReadableMap options, final Promise promise) {
     try {
@@ -114,6 +124,7 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
       Activity currentActivity = getCurrentActivity();
 
       if (currentActivity == null) {
+        onConsentUpdated(true);
         rejectPromiseWithCodeAndMessage(
             promise,
             "null-activity",
@@ -121,16 +132,28 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
         return;
       }
 
-      consentInformation.requestConsentInfoUpdate(
+      // The parameters are built from the options alone, so equal options match.
+      String parametersKey =
+          ReactNativeGoogleMobileAdsAdStore.INSTANCE.getRequestFingerprint(options);
+
+      ReactNativeGoogleMobileAdsConsentInfoUpdater.INSTANCE.requestUpdate(
           currentActivity,
           consentRequestParameters,
-          () -> {
-            promise.resolve(getConsentInformation());
-          },
-          formError ->
+          parametersKey,
+          formError -> {
+            if (formError != null) {
+              onConsentUpdated(true);
               rejectPromiseWithCodeAndMessage(
-                  promise, "consent-update-failed", formError.getMessage()));
+                  promise, "consent-update-failed", formError.getMessage());
+              return;
+            }
+            // A consent form may still have to be shown before ads can be requested.
+            onConsentUpdated(
+                consentInformation.getConsentStatus() != ConsentInformation.ConsentStatus.REQUIRED);
+            promise.resolve(getConsentInformation());
+          });
     } catch (Exception e) {
+      onConsentUpdated(true);
       rejectPromiseWithCodeAndMessage(promise, "consent-update-failed", e.toString());
     }
   }
@@ -156,6 +179,7 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
                       consentForm.show(
                           currentActivity,
                           formError -> {
+                            onConsentUpdated(true);
                             if (formError != null) {
                               rejectPromiseWithCodeAndMessage(
                                   promise, "consent-form-error", formError.getMessage());
@@ -163,9 +187,11 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
                               promise.resolve(getConsentInformation());
                             }
                           }),
-                  formError ->
-                      rejectPromiseWithCodeAndMessage(
-                          promise, "consent-form-error", formError.getMessage())));
+                  formError -> {
+                    onConsentUpdated(true);
+                    rejectPromiseWithCodeAndMessage(
+                        promise, "consent-form-error", formError.getMessage());
+                  }));
     } catch (Exception e) {
       rejectPromiseWithCodeAndMessage(promise, "consent-form-error", e.toString());
     }
@@ -189,6 +215,7 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
               UserMessagingPlatform.showPrivacyOptionsForm(
                   currentActivity,
                   formError -> {
+                    onConsentUpdated(true);
                     if (formError != null) {
                       rejectPromiseWithCodeAndMessage(
                           promise, "privacy-options-form-error", formError.getMessage());
@@ -220,6 +247,7 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
               UserMessagingPlatform.loadAndShowConsentFormIfRequired(
                   currentActivity,
                   formError -> {
+                    onConsentUpdated(true);
                     if (formError != null) {
                       rejectPromiseWithCodeAndMessage(
                           promise, "consent-form-error", formError.getMessage());
@@ -240,15 +268,17 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
   @ReactMethod
   public void reset() {
     consentInformation.reset();
+    ReactNativeGoogleMobileAdsConsentInfoUpdater.INSTANCE.invalidate(getReactApplicationContext());
+    ReactNativeGoogleMobileAdsConsentGate.INSTANCE.onConsentReset();
   }
 
   @ReactMethod
   public void getTCString(Promise promise) {
     try {
-      SharedPreferences prefs =
-          PreferenceManager.getDefaultSharedPreferences(getReactApplicationContext());
       // https://github.com/InteractiveAdvertisingBureau/GDPR-Transparency-and-Consent-Framework/blob/master/TCFv2/IAB%20Tech%20Lab%20-%20CMP%20API%20v2.md#in-app-details
-      String tcString = prefs.getString("IABTCF_TCString", null);
+      String tcString =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getString(
+              getReactApplicationContext(), "IABTCF_TCString", null);
       promise.resolve(tcString);
     } catch (Exception e) {
       rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
@@ -258,9 +288,9 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
   @ReactMethod
   public void getGdprApplies(Promise promise) {
     try {
-      SharedPreferences prefs =
-          PreferenceManager.getDefaultSharedPreferences(getReactApplicationContext());
-      int gdprApplies = prefs.getInt("IABTCF_gdprApplies", 0);
+      int gdprApplies =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getInt(
+              getReactApplicationContext(), "IABTCF_gdprApplies", 0);
       promise.resolve(gdprApplies == 1);
     } catch (Exception e) {
       rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
@@ -270,9 +300,9 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
   @ReactMethod
   public void getPurposeConsents(Promise promise) {
     try {
-      SharedPreferences prefs =
-          PreferenceManager.getDefaultSharedPreferences(getReactApplicationContext());
-      String purposeConsents = prefs.getString("IABTCF_PurposeConsents", "");
+      String purposeConsents =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getString(
+              getReactApplicationContext(), "IABTCF_PurposeConsents", "");
       promise.resolve(purposeConsents);
     } catch (Exception e) {
       rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
@@ -282,12 +312,128 @@ public class ReactNativeGoogleMobileAdsConsentModule extends ReactNativeModule {
   @ReactMethod
   public void getPurposeLegitimateInterests(Promise promise) {
     try {
-      SharedPreferences prefs =
-          PreferenceManager.getDefaultSharedPreferences(getReactApplicationContext());
-      String purposeLegitimateInterests = prefs.getString("IABTCF_PurposeLegitimateInterests", "");
+      String purposeLegitimateInterests =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getString(
+              getReactApplicationContext(), "IABTCF_PurposeLegitimateInterests", "");
       promise.resolve(purposeLegitimateInterests);
     } catch (Exception e) {
       rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
     }
   }
+
+  @ReactMethod
+  public void getConsentSnapshot(Promise promise) {
+    try {
+      Map<String, Object> values =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getValues(
+              getReactApplicationContext());
+      WritableMap valuesMap = Arguments.createMap();
+      for (Map.Entry<String, Object> entry : values.entrySet()) {
+        Object value = entry.getValue();
+        if (value instanceof String) {
+          valuesMap.putString(entry.getKey(), (String) value);
+        } else if (value instanceof Integer) {
+          valuesMap.putInt(entry.getKey(), (Integer) value);
+        }
+      }
+
+      Object tcString = values.get("IABTCF_TCString");
+      Object gdprApplies = values.get("IABTCF_gdprApplies");
+      Object purposeConsents = values.get("IABTCF_PurposeConsents");
+      Object purposeLegitimateInterests = values.get("IABTCF_PurposeLegitimateInterests");
+
+      WritableMap snapshot = Arguments.createMap();
+      snapshot.putString("tcString", tcString instanceof String ? (String) tcString : null);
+      snapshot.putBoolean(
+          "gdprApplies", gdprApplies instanceof Integer && (Integer) gdprApplies == 1);
+      snapshot.putString(
+          "purposeConsents", purposeConsents instanceof String ? (String) purposeConsents : "");
+      snapshot.putString(
+          "purposeLegitimateInterests",
+          purposeLegitimateInterests instanceof String ? (String) purposeLegitimateInterests : "");
+      snapshot.putMap("values", valuesMap);
+      promise.resolve(snapshot);
+    } catch (Exception e) {
+      rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
+    }
+  }
+
+  @ReactMethod
+  public void getTCData(Promise promise) {
+    try {
+      ReactNativeGoogleMobileAdsTCString tcData =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getTCString(
+              getReactApplicationContext());
+      if (tcData == null) {
+        promise.resolve(null);
+        return;
+      }
+
+      WritableMap tcDataMap = Arguments.createMap();
+      tcDataMap.putInt("version", tcData.getVersion());
+      tcDataMap.putDouble("created", tcData.getCreated());
+      tcDataMap.putDouble("lastUpdated", tcData.getLastUpdated());
+      tcDataMap.putInt("cmpId", tcData.getCmpId());
+      tcDataMap.putInt("cmpVersion", tcData.getCmpVersion());
+      tcDataMap.putInt("consentScreen", tcData.getConsentScreen());
+      tcDataMap.putString("consentLanguage", tcData.getConsentLanguage());
+      tcDataMap.putInt("vendorListVersion", tcData.getVendorListVersion());
+      tcDataMap.putInt("policyVersion", tcData.getPolicyVersion());
+      tcDataMap.putBoolean("isServiceSpecific", tcData.isServiceSpecific());
+      tcDataMap.putBoolean("purposeOneTreatment", tcData.getPurposeOneTreatment());
+      tcDataMap.putString("publisherCountryCode", tcData.getPublisherCountryCode());
+      tcDataMap.putArray("specialFeatureOptins", bitSetToArray(tcData.getSpecialFeatureOptins()));
+      tcDataMap.putArray("purposeConsents", bitSetToArray(tcData.getPurposeConsents()));
+      tcDataMap.putArray(
+          "purposeLegitimateInterests", bitSetToArray(tcData.getPurposeLegitimateInterests()));
+      tcDataMap.putArray("publisherConsents", bitSetToArray(tcData.getPublisherConsents()));
+      tcDataMap.putArray(
+          "publisherLegitimateInterests",
+          bitSetToArray(tcData.getPublisherLegitimateInterests()));
+      tcDataMap.putArray(
+          "customPurposeConsents", bitSetToArray(tcData.getCustomPurposeConsents()));
+      tcDataMap.putArray(
+          "customPurposeLegitimateInterests",
+          bitSetToArray(tcData.getCustomPurposeLegitimateInterests()));
+      promise.resolve(tcDataMap);
+    } catch (Exception e) {
+      rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
+    }
+  }
+
+  @ReactMethod
+  public void hasVendorPurposeConsent(double vendorId, double purposeId, Promise promise) {
+    try {
+      ReactNativeGoogleMobileAdsTCString tcData =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getTCString(
+              getReactApplicationContext());
+      promise.resolve(
+          tcData != null && tcData.hasVendorPurposeConsent((int) vendorId, (int) purposeId));
+    } catch (Exception e) {
+      rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
+    }
+  }
+
+  @ReactMethod
+  public void hasVendorPurposeLegitimateInterest(
+      double vendorId, double purposeId, Promise promise) {
+    try {
+      ReactNativeGoogleMobileAdsTCString tcData =
+          ReactNativeGoogleMobileAdsConsentSnapshot.INSTANCE.getTCString(
+              getReactApplicationContext());
+      promise.resolve(
+          tcData != null
+              && tcData.hasVendorPurposeLegitimateInterest((int) vendorId, (int) purposeId));
+    } catch (Exception e) {
+      rejectPromiseWithCodeAndMessage(promise, "consent-string-error", e.toString());
+    }
+  }
+
+  private static WritableArray bitSetToArray(BitSet bitSet) {
+    WritableArray array = Arguments.createArray();
+    for (int id = bitSet.nextSetBit(0); id >= 0; id = bitSet.nextSetBit(id + 1)) {
+      array.pushInt(id);
+    }
+    return array;
+  }
 }
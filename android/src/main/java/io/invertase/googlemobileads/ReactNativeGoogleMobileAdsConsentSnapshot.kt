@@ -0,0 +1,101 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.content.Context
+import android.content.SharedPreferences
+import android.preference.PreferenceManager
+
+/**
+ * In-memory copy of the IAB TCF and GPP keys the consent management platform stores in the
+ * default SharedPreferences.
+ *
+ * The keys are read once and then kept current by a change listener, so consent checks read
+ * memory instead of looking up the preferences key by key. Each change replaces the whole map,
+ * readers always see a consistent set of values. The TC string is decoded at most once per
+ * change, the first time it is needed.
+ *
+ * https://github.com/InteractiveAdvertisingBureau/GDPR-Transparency-and-Consent-Framework/blob/master/TCFv2/IAB%20Tech%20Lab%20-%20CMP%20API%20v2.md#in-app-details
+ */
+object ReactNativeGoogleMobileAdsConsentSnapshot {
+  private val KEY_PREFIXES = listOf("IABTCF_", "IABGPP_")
+
+  @Volatile
+  private var values: Map<String, Any?>? = null
+
+  // The values the TC string was last decoded from, and the result.
+  @Volatile
+  private var decoded: Pair<Map<String, Any?>, ReactNativeGoogleMobileAdsTCString?>? = null
+
+  // SharedPreferences only keeps a weak reference to its listeners.
+  private val listener = SharedPreferences.OnSharedPreferenceChangeListener { prefs, key ->
+    // A null key means the preferences were cleared.
+    if (key == null || KEY_PREFIXES.any { key.startsWith(it) }) {
+      values = readValues(prefs)
+    }
+  }
+
+  /**
+   * Returns every IAB TCF and GPP key and its value.
+   */
+  fun getValues(context: Context): Map<String, Any?> {
+    values?.let { return it }
+    synchronized(this) {
+      values?.let { return it }
+      val prefs = PreferenceManager.getDefaultSharedPreferences(context.applicationContext)
+      prefs.registerOnSharedPreferenceChangeListener(listener)
+      return readValues(prefs).also { values = it }
+    }
+  }
+
+  fun getString(context: Context, key: String, defaultValue: String?): String? {
+    return getValues(context)[key] as? String ?: defaultValue
+  }
+
+  fun getInt(context: Context, key: String, defaultValue: Int): Int {
+    return getValues(context)[key] as? Int ?: defaultValue
+  }
+
+  /**
+   * Returns the decoded `IABTCF_TCString`, or if there is none the EU TCF v2 section of the GPP
+   * string. Returns null if neither is stored or valid.
+   */
+  fun getTCString(context: Context): ReactNativeGoogleMobileAdsTCString? {
+    val values = getValues(context)
+    decoded?.let {
+      if (it.first === values) {
+        return it.second
+      }
+    }
+    val tcString = values["IABTCF_TCString"] as? String
+    val gppString = values["IABGPP_HDR_GppString"] as? String
+    val gppSectionIds = values["IABGPP_GppSID"] as? String
+    val tcData = when {
+      !tcString.isNullOrEmpty() -> ReactNativeGoogleMobileAdsTCString.decode(tcString)
+      gppString != null && gppSectionIds != null ->
+        ReactNativeGoogleMobileAdsTCString.decodeGpp(gppString, gppSectionIds)
+      else -> null
+    }
+    decoded = values to tcData
+    return tcData
+  }
+
+  private fun readValues(prefs: SharedPreferences): Map<String, Any?> {
+    return prefs.all.filterKeys { key -> KEY_PREFIXES.any { key.startsWith(it) } }
+  }
+}
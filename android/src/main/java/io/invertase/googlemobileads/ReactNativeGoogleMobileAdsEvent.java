@@ -35,6 +35,7 @@ public class ReactNativeGoogleMobileAdsEvent implements NativeEvent {
   public static final String GOOGLE_MOBILE_ADS_EVENT_PAID = "paid";
   public static final String GOOGLE_MOBILE_ADS_EVENT_CLICKED = "clicked";
   public static final String GOOGLE_MOBILE_ADS_EVENT_CLOSED = "closed";
+  public static final String GOOGLE_MOBILE_ADS_EVENT_IMPRESSION = "impression";
   public static final String GOOGLE_MOBILE_ADS_EVENT_APP_EVENT = "app_event";
 
   public static final String GOOGLE_MOBILE_ADS_EVENT_REWARDED_LOADED = "rewarded_loaded";
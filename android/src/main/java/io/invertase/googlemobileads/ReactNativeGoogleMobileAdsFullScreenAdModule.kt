@@ -18,9 +18,11 @@ package io.invertase.googlemobileads
  */
 
 import android.app.Activity
+import android.content.Context
+import android.os.SystemClock
 import android.util.Log
-import android.util.SparseArray
 import com.facebook.react.bridge.*
+import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdLoadCallback
 import com.google.android.gms.ads.FullScreenContentCallback
 import com.google.android.gms.ads.LoadAdError
@@ -38,12 +40,38 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
   reactContext: ReactApplicationContext?,
   moduleName: String
 ) : ReactNativeModule(reactContext, moduleName) {
-  private val adArray = SparseArray<T>()
+  private val registryGeneration = ReactNativeGoogleMobileAdsAdRegistry.newGeneration()
+  private val inFlightLoads = HashMap<String, MutableList<Int>>()
+
+  // Set once the React instance is gone, loads finishing after that are parked for the next one.
+  @Volatile
+  private var isInvalidated = false
 
   abstract fun getAdEventName(): String
 
+  /**
+   * The format as named on the JS side, e.g. `rewarded_interstitial`.
+   */
+  private fun getAdFormat(): String {
+    return getAdEventName().removePrefix("google_mobile_ads_").removeSuffix("_event")
+  }
+
+  /**
+   * Latency stats group of a single ad unit, e.g. `interstitial:ca-app-pub-xxx/yyy`.
+   */
+  private fun getAdUnitStatsGroup(adUnitId: String): String {
+    return "${getAdFormat()}:$adUnitId"
+  }
+
+  /**
+   * How long a loaded ad of this format stays valid before the SDK expires it.
+   */
+  open fun getAdExpiryMillis(): Long {
+    return DEFAULT_AD_EXPIRY_MILLIS
+  }
+
   abstract fun loadAd(
-    activity: Activity,
+    context: Context,
     adUnitId: String,
     adRequest: AdManagerAdRequest,
     adLoadCallback: AdLoadCallback<T>
@@ -66,9 +94,124 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
     )
   }
 
+  fun preload(adUnitId: String, adRequestOptions: ReadableMap, depth: Int) {
+    // Stopping a pool never has to wait for consent.
+    if (depth <= 0) {
+      configurePreloadPool(adUnitId, adRequestOptions, depth)
+      return
+    }
+    ReactNativeGoogleMobileAdsConsentGate.await(reactApplicationContext) { canRequestAds ->
+      if (canRequestAds) {
+        configurePreloadPool(adUnitId, adRequestOptions, depth)
+      }
+    }
+  }
+
+  private fun configurePreloadPool(adUnitId: String, adRequestOptions: ReadableMap, depth: Int) {
+    ReactNativeGoogleMobileAdsPreloader.configure(
+      getAdEventName(),
+      adUnitId,
+      getAdExpiryMillis(),
+      ::loadAd,
+      adRequestOptions,
+      depth
+    )
+  }
+
+  protected fun getPreloadPool(adUnitId: String): ReactNativeGoogleMobileAdsPreloadPool<T>? {
+    return ReactNativeGoogleMobileAdsPreloader.getPool(getAdEventName(), adUnitId)
+  }
+
+  /**
+   * Parses the rewarded server-side verification options out of the request options, or returns
+   * null when none were given.
+   */
+  private fun buildServerSideVerificationOptions(
+    adRequestOptions: ReadableMap
+  ): ServerSideVerificationOptions? {
+    if (!adRequestOptions.hasKey("serverSideVerificationOptions")) {
+      return null
+    }
+    val serverSideVerificationOptions =
+      adRequestOptions.getMap("serverSideVerificationOptions") ?: return null
+    val options = ServerSideVerificationOptions.Builder()
+    serverSideVerificationOptions.getString("userId")?.let {
+      options.setUserId(it)
+    }
+    serverSideVerificationOptions.getString("customData")?.let {
+      options.setCustomData(it)
+    }
+    return options.build()
+  }
+
+  /**
+   * Everything but the SDK load call itself, which has to happen on the main thread, is prepared
+   * on the module executor so a burst of loads does not hold up the UI thread.
+   *
+   * With `android_wait_for_consent` set, a load issued before the user's consent is known waits
+   * natively until it is.
+   */
   fun load(
     requestId: Int, adUnitId: String, adRequestOptions: ReadableMap
   ) {
+    ReactNativeGoogleMobileAdsConsentGate.await(reactApplicationContext) { canRequestAds ->
+      if (!canRequestAds) {
+        val error = Arguments.createMap()
+        error.putString("code", ReactNativeGoogleMobileAdsConsentGate.ERROR_CODE)
+        error.putString("message", ReactNativeGoogleMobileAdsConsentGate.ERROR_MESSAGE)
+        sendAdEvent(
+          ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_ERROR,
+          requestId,
+          adUnitId,
+          error,
+          null
+        )
+        return@await
+      }
+      val requestedAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+      executor.execute {
+        prepareLoad(requestId, adUnitId, adRequestOptions, requestedAt)
+      }
+    }
+  }
+
+  private fun prepareLoad(
+    requestId: Int, adUnitId: String, adRequestOptions: ReadableMap, requestedAt: Long
+  ) {
+    val loadKey = ReactNativeGoogleMobileAdsAdStore.getKey(
+      getAdEventName(),
+      adUnitId,
+      adRequestOptions
+    )
+
+    // An ad left behind by a previous React instance for the same request is adopted first.
+    val parkedAd = ReactNativeGoogleMobileAdsAdStore.adopt(loadKey)
+    if (parkedAd != null) {
+      @Suppress("UNCHECKED_CAST")
+      ReactNativeGoogleMobileAdsAdLoadCallback(
+        loadKey,
+        false,
+        mutableListOf(requestId),
+        adUnitId,
+        adRequestOptions
+      ).onAdLoaded(parkedAd.ad as T & Any, parkedAd.expiresAt)
+      return
+    }
+
+    val preloadedAd = getPreloadPool(adUnitId)?.acquire(
+      ReactNativeGoogleMobileAdsAdStore.getRequestFingerprint(adRequestOptions)
+    )
+    if (preloadedAd != null) {
+      ReactNativeGoogleMobileAdsAdLoadCallback(
+        loadKey,
+        false,
+        mutableListOf(requestId),
+        adUnitId,
+        adRequestOptions
+      ).onAdLoaded(preloadedAd.ad, preloadedAd.loadedAt + getAdExpiryMillis())
+      return
+    }
+
     val activity = currentActivity
     if (activity == null) {
       val error = Arguments.createMap()
@@ -86,12 +229,27 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
       )
       return
     }
-    val adRequest = ReactNativeGoogleMobileAdsCommon.buildAdRequest(adRequestOptions)
+
+    val requestIds: MutableList<Int>
+    synchronized(inFlightLoads) {
+      val pendingRequestIds = inFlightLoads[loadKey]
+      if (pendingRequestIds != null) {
+        // An identical load is already in flight, its result is fanned out to this request too.
+        pendingRequestIds.add(requestId)
+        return
+      }
+      requestIds = mutableListOf(requestId)
+      inFlightLoads[loadKey] = requestIds
+    }
     val adLoadCallback = ReactNativeGoogleMobileAdsAdLoadCallback(
-      requestId,
+      loadKey,
+      true,
+      requestIds,
       adUnitId,
-      adRequestOptions
+      adRequestOptions,
+      requestedAt
     )
+    val adRequest = ReactNativeGoogleMobileAdsCommon.buildAdRequest(adRequestOptions)
     activity.runOnUiThread {
       loadAd(
         activity,
@@ -114,38 +272,271 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
       )
       return
     }
+    val calledAt = ReactNativeGoogleMobileAdsLatencyStats.now()
     activity.runOnUiThread {
-      val ad = adArray[requestId]
-      val adHelper = ReactNativeGoogleMobileAdsAdHelper(ad)
-
       var immersiveModeEnabled = false
       if (showOptions.hasKey("immersiveModeEnabled")) {
         immersiveModeEnabled = showOptions.getBoolean("immersiveModeEnabled")
       }
-      adHelper.setImmersiveMode(immersiveModeEnabled)
+      showAd(activity, requestId, adUnitId, immersiveModeEnabled, promise, calledAt)
+    }
+  }
 
-      adHelper.show(activity) { rewardItem ->
-        val data = Arguments.createMap()
-        data.putString("type", rewardItem.type)
-        data.putInt("amount", rewardItem.amount)
-        sendAdEvent(
-          ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_REWARDED_EARNED_REWARD,
-          requestId,
-          adUnitId,
-          null,
-          data
+  /**
+   * Shows an ad taken straight from the preload pool of [adUnitId], without a round trip to JS.
+   * The ad is first delivered to [requestId] as if it had loaded, so JS receives the usual
+   * loaded, opened and closed events. Must be called on the main thread.
+   *
+   * @return false when the pool had no ad younger than [maxAdAgeMillis] ready.
+   */
+  protected fun showPreloadedAd(
+    activity: Activity,
+    requestId: Int,
+    adUnitId: String,
+    adRequestOptions: ReadableMap,
+    immersiveModeEnabled: Boolean,
+    maxAdAgeMillis: Long
+  ): Boolean {
+    val preloadedAd = getPreloadPool(adUnitId)?.acquire(
+      ReactNativeGoogleMobileAdsAdStore.getRequestFingerprint(adRequestOptions),
+      maxAdAgeMillis
+    ) ?: return false
+    ReactNativeGoogleMobileAdsAdLoadCallback(
+      ReactNativeGoogleMobileAdsAdStore.getKey(getAdEventName(), adUnitId, adRequestOptions),
+      false,
+      mutableListOf(requestId),
+      adUnitId,
+      adRequestOptions
+    ).onAdLoaded(preloadedAd.ad, preloadedAd.loadedAt + getAdExpiryMillis())
+    val calledAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+    showAd(activity, requestId, adUnitId, immersiveModeEnabled, null, calledAt)
+    return true
+  }
+
+  /**
+   * Shows the ad loaded for [requestId]. The promise, if any, settles once the SDK reports the ad
+   * as shown or failed to show, rather than when the show call is dispatched.
+   */
+  private fun showAd(
+    activity: Activity,
+    requestId: Int,
+    adUnitId: String,
+    immersiveModeEnabled: Boolean,
+    promise: Promise?,
+    calledAt: Long
+  ) {
+    val uiThreadAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+    val sharedAd = getSharedAd(requestId)
+    // Taking the ad out of the registry claims it, an ad can only be shown once.
+    if (sharedAd == null ||
+      !ReactNativeGoogleMobileAdsAdRegistry.remove(registryGeneration, requestId, sharedAd)
+    ) {
+      getPreloadPool(adUnitId)?.refill()
+      promise?.let {
+        rejectPromiseWithCodeAndMessage(
+          it,
+          "not-ready",
+          "Ad attempted to show but no ad is loaded for this request, it may have expired or already been shown."
         )
       }
-      promise.resolve(null)
+      return
+    }
+    claimSharedAd(sharedAd, requestId, adUnitId)
+    sharedAd.showCalledAt = calledAt
+    val pendingShow = PendingShow(promise, calledAt, uiThreadAt)
+    sharedAd.pendingShow = pendingShow
+
+    val adHelper = ReactNativeGoogleMobileAdsAdHelper(sharedAd.ad)
+    adHelper.setImmersiveMode(immersiveModeEnabled)
+
+    adHelper.show(activity) { rewardItem ->
+      val data = Arguments.createMap()
+      data.putString("type", rewardItem.type)
+      data.putInt("amount", rewardItem.amount)
+      sendAdEvent(
+        ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_REWARDED_EARNED_REWARD,
+        requestId,
+        adUnitId,
+        null,
+        data
+      )
+    }
+    pendingShow.dispatchedAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+    getPreloadPool(adUnitId)?.refill()
+  }
+
+  /**
+   * Timestamps of a show call still waiting for the SDK to display the ad.
+   */
+  private class PendingShow(val promise: Promise?, val calledAt: Long, val uiThreadAt: Long) {
+    var dispatchedAt = 0L
+
+    /**
+     * Splits the time from the native show call to [showedAt] into its stages, in milliseconds,
+     * and records each stage in the latency histograms of [adFormat].
+     */
+    fun toLatencyMap(adFormat: String, showedAt: Long): WritableMap {
+      // The SDK may report the ad as shown before show() returns.
+      val dispatchEndAt = if (dispatchedAt > 0) dispatchedAt else showedAt
+      val stages = linkedMapOf(
+        "uiThreadHop" to ReactNativeGoogleMobileAdsLatencyStats.millisBetween(calledAt, uiThreadAt),
+        "helperDispatch" to
+          ReactNativeGoogleMobileAdsLatencyStats.millisBetween(uiThreadAt, dispatchEndAt),
+        "render" to ReactNativeGoogleMobileAdsLatencyStats.millisBetween(dispatchEndAt, showedAt),
+        "total" to ReactNativeGoogleMobileAdsLatencyStats.millisBetween(calledAt, showedAt)
+      )
+      val latency = Arguments.createMap()
+      for ((stage, millis) in stages) {
+        ReactNativeGoogleMobileAdsLatencyStats.record("$adFormat.show", stage, millis)
+        latency.putDouble(stage, millis)
+      }
+      return latency
+    }
+  }
+
+  /**
+   * Makes [requestId] the owner of a shared ad that is about to be shown. Every other request
+   * that received the same ad can no longer show it, so a new load is started for them, which
+   * delivers each its own ad with another loaded event. Until then their show calls are rejected
+   * as not ready.
+   */
+  private fun claimSharedAd(sharedAd: SharedAd, requestId: Int, adUnitId: String) {
+    sharedAd.activeRequestId = requestId
+    if (isInvalidated) {
+      return
+    }
+    val requestedAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+    for (otherRequestId in sharedAd.requestIds) {
+      if (otherRequestId == requestId ||
+        !ReactNativeGoogleMobileAdsAdRegistry.remove(registryGeneration, otherRequestId, sharedAd)
+      ) {
+        continue
+      }
+      executor.execute {
+        prepareLoad(otherRequestId, adUnitId, sharedAd.adRequestOptions, requestedAt)
+      }
+    }
+  }
+
+  private fun getSharedAd(requestId: Int): SharedAd? {
+    @Suppress("UNCHECKED_CAST")
+    return ReactNativeGoogleMobileAdsAdRegistry.get(registryGeneration, requestId) as SharedAd?
+  }
+
+  private fun registerSharedAd(sharedAd: SharedAd, requestId: Int, adUnitId: String) {
+    ReactNativeGoogleMobileAdsAdRegistry.put(
+      registryGeneration,
+      requestId,
+      sharedAd,
+      sharedAd.expiresAt - SystemClock.elapsedRealtime()
+    ) { reason ->
+      val error = Arguments.createMap()
+      error.putString("code", "ad-$reason")
+      error.putString(
+        "message",
+        if (reason == ReactNativeGoogleMobileAdsAdRegistry.REASON_EXPIRED) {
+          "The loaded ad expired before it was shown, load a new one."
+        } else {
+          "The loaded ad was evicted to make room for newer ads, load a new one."
+        }
+      )
+      sendAdEvent(
+        ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_ERROR,
+        requestId,
+        adUnitId,
+        error,
+        null
+      )
+    }
+  }
+
+  override fun invalidate() {
+    isInvalidated = true
+    super.invalidate()
+    parkRegisteredAds()
+  }
+
+  /**
+   * JS requestIds of this instance are meaningless to the next one, but the ads themselves are
+   * still valid. Parks them so the next React instance can adopt them when it loads again.
+   */
+  private fun parkRegisteredAds() {
+    for (value in ReactNativeGoogleMobileAdsAdRegistry.removeGeneration(registryGeneration)) {
+      @Suppress("UNCHECKED_CAST")
+      val sharedAd = value as SharedAd
+      ReactNativeGoogleMobileAdsAdHelper(sharedAd.ad).clearListeners()
+      ReactNativeGoogleMobileAdsAdStore.park(sharedAd.loadKey, sharedAd.ad, sharedAd.expiresAt)
     }
   }
 
+  /**
+   * A loaded ad together with every requestId that was attached to its load. Events raised by
+   * the ad are routed to whichever of those requests showed it.
+   */
+  private inner class SharedAd(
+    val ad: T & Any,
+    val requestIds: List<Int>,
+    val loadKey: String,
+    val adRequestOptions: ReadableMap,
+    val expiresAt: Long,
+    val loadedAt: Long
+  ) {
+    @Volatile
+    var activeRequestId = requestIds.first()
+
+    // Only touched on the main thread, where shows are dispatched and the SDK calls back.
+    var pendingShow: PendingShow? = null
+    var showCalledAt = 0L
+  }
+
   inner class ReactNativeGoogleMobileAdsAdLoadCallback(
-    private val requestId: Int,
+    private val loadKey: String,
+    private val isInFlight: Boolean,
+    private val pendingRequestIds: MutableList<Int>,
     private val adUnitId: String,
-    private val adRequestOptions: ReadableMap
+    private val adRequestOptions: ReadableMap,
+    private val requestedAt: Long = 0L
   ) : AdLoadCallback<T>() {
+    private fun takeRequestIds(): List<Int> {
+      synchronized(inFlightLoads) {
+        if (isInFlight) {
+          inFlightLoads.remove(loadKey)
+        }
+        return pendingRequestIds.toList()
+      }
+    }
+
     override fun onAdLoaded(ad: T & Any) {
+      onAdLoaded(ad, SystemClock.elapsedRealtime() + getAdExpiryMillis())
+    }
+
+    /**
+     * Delivers [ad] to every pending request. [expiresAt] is an elapsedRealtime timestamp, earlier
+     * than a full ad lifetime from now for ads taken from a preload pool or adopted from a previous
+     * React instance.
+     */
+    fun onAdLoaded(ad: T & Any, expiresAt: Long) {
+      val requestIds = takeRequestIds()
+      if (isInvalidated) {
+        // Loaded after its React instance went away, no one is left to deliver it to.
+        ReactNativeGoogleMobileAdsAdStore.park(loadKey, ad, expiresAt)
+        return
+      }
+      val now = ReactNativeGoogleMobileAdsLatencyStats.now()
+      if (requestedAt > 0) {
+        ReactNativeGoogleMobileAdsLatencyStats.record(
+          getAdUnitStatsGroup(adUnitId),
+          "load",
+          ReactNativeGoogleMobileAdsLatencyStats.millisBetween(requestedAt, now)
+        )
+      }
+      // Ads from a preload pool or a previous React instance were loaded before, back-date them
+      // by the part of their lifetime already used so loadToImpression counts from the real load.
+      // This relies on their expiresAt being derived from when they were loaded.
+      val lifetimeUsedMillis =
+        maxOf(0L, getAdExpiryMillis() - (expiresAt - SystemClock.elapsedRealtime()))
+      val loadedAt = now - lifetimeUsedMillis * 1_000_000L
+      val sharedAd = SharedAd(ad, requestIds, loadKey, adRequestOptions, expiresAt, loadedAt)
       try {
         val adHelper = ReactNativeGoogleMobileAdsAdHelper(ad)
         var eventType = ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_LOADED
@@ -158,7 +549,7 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
           payload.putString("currency", adValue.getCurrencyCode());
           sendAdEvent(
             ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_PAID,
-            requestId,
+            sharedAd.activeRequestId,
             adUnitId,
             null,
             payload
@@ -180,18 +571,9 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
           data.putString("type", rewardItem.type)
           data.putInt("amount", rewardItem.amount)
 
-          adRequestOptions.getMap("serverSideVerificationOptions")
-            ?.let { serverSideVerificationOptions ->
-              val options =
-                ServerSideVerificationOptions.Builder()
-              serverSideVerificationOptions.getString("userId")?.let {
-                options.setUserId(it)
-              }
-              serverSideVerificationOptions.getString("customData")?.let {
-                options.setCustomData(it)
-              }
-              adHelper.setServerSideVerificationOptions(options.build())
-            }
+          buildServerSideVerificationOptions(adRequestOptions)?.let {
+            adHelper.setServerSideVerificationOptions(it)
+          }
         }
 
         if (ad is AdManagerInterstitialAd) {
@@ -201,7 +583,7 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
             payload.putString("data", eventData)
             sendAdEvent(
               GOOGLE_MOBILE_ADS_EVENT_APP_EVENT,
-              requestId,
+              sharedAd.activeRequestId,
               adUnitId,
               null,
               payload
@@ -212,7 +594,43 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
         val fullScreenContentCallback: FullScreenContentCallback =
           object : FullScreenContentCallback() {
             override fun onAdShowedFullScreenContent() {
-              sendAdEvent(ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_OPENED)
+              val showedAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+              val pendingShow = sharedAd.pendingShow
+              sharedAd.pendingShow = null
+              var data: WritableMap? = null
+              if (pendingShow != null) {
+                data = Arguments.createMap()
+                data.putMap("latency", pendingShow.toLatencyMap(getAdFormat(), showedAt))
+              }
+              sendAdEvent(ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_OPENED, data)
+              pendingShow?.promise?.resolve(null)
+            }
+
+            override fun onAdFailedToShowFullScreenContent(adError: AdError) {
+              val pendingShow = sharedAd.pendingShow
+              sharedAd.pendingShow = null
+              val codeAndMessage =
+                ReactNativeGoogleMobileAdsCommon.getCodeAndMessageFromAdError(adError)
+              val promise = pendingShow?.promise
+              if (promise != null) {
+                ReactNativeModule.rejectPromiseWithCodeAndMessage(
+                  promise,
+                  codeAndMessage[0],
+                  codeAndMessage[1]
+                )
+                return
+              }
+              // Shown natively without a JS call waiting on it, report the failure as an event.
+              val error = Arguments.createMap()
+              error.putString("code", codeAndMessage[0])
+              error.putString("message", codeAndMessage[1])
+              sendAdEvent(
+                ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_ERROR,
+                sharedAd.activeRequestId,
+                adUnitId,
+                error,
+                null
+              )
             }
 
             override fun onAdDismissedFullScreenContent() {
@@ -224,38 +642,90 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
             }
 
             override fun onAdImpression() {
-              // Not Implemented Yet
+              val impressionAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+              val statsGroup = getAdUnitStatsGroup(adUnitId)
+              val latency = Arguments.createMap()
+              val loadToImpression = ReactNativeGoogleMobileAdsLatencyStats.millisBetween(
+                sharedAd.loadedAt,
+                impressionAt
+              )
+              ReactNativeGoogleMobileAdsLatencyStats.record(
+                statsGroup,
+                "loadToImpression",
+                loadToImpression
+              )
+              latency.putDouble("loadToImpression", loadToImpression)
+              if (sharedAd.showCalledAt > 0) {
+                val showToImpression = ReactNativeGoogleMobileAdsLatencyStats.millisBetween(
+                  sharedAd.showCalledAt,
+                  impressionAt
+                )
+                ReactNativeGoogleMobileAdsLatencyStats.record(
+                  statsGroup,
+                  "showToImpression",
+                  showToImpression
+                )
+                latency.putDouble("showToImpression", showToImpression)
+              }
+              val data = Arguments.createMap()
+              data.putMap("latency", latency)
+              sendAdEvent(
+                ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_IMPRESSION,
+                data
+              )
             }
 
-            private fun sendAdEvent(type: String) {
+            private fun sendAdEvent(type: String, data: WritableMap? = null) {
               sendAdEvent(
                 type,
-                requestId,
+                sharedAd.activeRequestId,
                 adUnitId,
                 null,
-                null
+                data
               )
             }
           }
         adHelper.setFullScreenContentCallback(fullScreenContentCallback)
 
-        adArray.put(
-          requestId,
-          ad
-        )
-        sendAdEvent(
-          eventType,
-          requestId,
-          adUnitId,
-          null,
-          data
-        )
+        for (requestId in requestIds) {
+          registerSharedAd(sharedAd, requestId, adUnitId)
+          sendAdEvent(
+            eventType,
+            requestId,
+            adUnitId,
+            null,
+            data?.copy()
+          )
+        }
+        if (isInvalidated) {
+          // invalidate() ran while the ad was being registered and may have missed it.
+          parkRegisteredAds()
+        }
       } catch (e: Exception) {
           Log.w("RNGoogleMobileAds", "Unknown error on load")
           Log.w("RNGoogleMobileAds", e)
+        for (requestId in requestIds) {
+          val error = Arguments.createMap()
+          error.putString("code", "internal")
+          error.putString("message", e.message)
+          sendAdEvent(
+            ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_ERROR,
+            requestId,
+            adUnitId,
+            error,
+            null
+          )
+        }
+      }
+    }
+
+    override fun onAdFailedToLoad(loadAdError: LoadAdError) {
+      val codeAndMessage =
+        ReactNativeGoogleMobileAdsCommon.getCodeAndMessageFromAdError(loadAdError)
+      for (requestId in takeRequestIds()) {
         val error = Arguments.createMap()
-        error.putString("code", "internal")
-        error.putString("message", e.message)
+        error.putString("code", codeAndMessage[0])
+        error.putString("message", codeAndMessage[1])
         sendAdEvent(
           ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_ERROR,
           requestId,
@@ -263,23 +733,11 @@ abstract class ReactNativeGoogleMobileAdsFullScreenAdModule<T>(
           error,
           null
         )
-
       }
     }
+  }
 
-    override fun onAdFailedToLoad(loadAdError: LoadAdError) {
-      val error = Arguments.createMap()
-      val codeAndMessage =
-        ReactNativeGoogleMobileAdsCommon.getCodeAndMessageFromAdError(loadAdError)
-      error.putString("code", codeAndMessage[0])
-      error.putString("message", codeAndMessage[1])
-      sendAdEvent(
-        ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_ERROR,
-        requestId,
-        adUnitId,
-        error,
-        null
-      )
-    }
+  companion object {
+    const val DEFAULT_AD_EXPIRY_MILLIS = 60 * 60 * 1000L
   }
 }
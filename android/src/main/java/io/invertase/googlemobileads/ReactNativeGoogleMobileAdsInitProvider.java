@@ -0,0 +1,40 @@
+package io.invertase.googlemobileads;
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.content.Context;
+import io.invertase.googlemobileads.common.ReactNativeApp;
+import io.invertase.googlemobileads.common.ReactNativeInitProvider;
+
+/**
+ * Runs at process start, before the React instance exists, so ads declared under
+ * `android_preload` in app.json start loading while JS is still booting.
+ */
+public class ReactNativeGoogleMobileAdsInitProvider extends ReactNativeInitProvider {
+  @Override
+  public boolean onCreate() {
+    super.onCreate();
+
+    Context applicationContext = ReactNativeApp.getApplicationContext();
+    if (applicationContext != null) {
+      ReactNativeGoogleMobileAdsPreloader.INSTANCE.preloadFromConfig(applicationContext);
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,103 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.os.SystemClock
+import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.WritableMap
+
+/**
+ * Process-wide latency histograms, grouped by a key such as the ad format and split by metric
+ * such as the stage of the show path.
+ */
+object ReactNativeGoogleMobileAdsLatencyStats {
+  // Upper bounds of the histogram buckets, the last bucket holds everything above.
+  private val BUCKET_BOUNDS_MILLIS =
+    doubleArrayOf(16.0, 33.0, 50.0, 100.0, 200.0, 300.0, 500.0, 750.0, 1000.0, 2000.0, 5000.0)
+
+  private val groups = LinkedHashMap<String, LinkedHashMap<String, Histogram>>()
+
+  /**
+   * Monotonic timestamp to measure stages with, see [millisBetween].
+   */
+  fun now(): Long {
+    return SystemClock.elapsedRealtimeNanos()
+  }
+
+  fun millisBetween(startNanos: Long, endNanos: Long): Double {
+    return (endNanos - startNanos) / 1_000_000.0
+  }
+
+  @Synchronized
+  fun record(group: String, metric: String, millis: Double) {
+    groups.getOrPut(group) { LinkedHashMap() }.getOrPut(metric) { Histogram() }.record(millis)
+  }
+
+  @Synchronized
+  fun getHistogram(group: String, metric: String): WritableMap? {
+    return groups[group]?.get(metric)?.toWritableMap()
+  }
+
+  @Synchronized
+  fun toWritableMap(): WritableMap {
+    val result = Arguments.createMap()
+    for ((group, metrics) in groups) {
+      val groupMap = Arguments.createMap()
+      for ((metric, histogram) in metrics) {
+        groupMap.putMap(metric, histogram.toWritableMap())
+      }
+      result.putMap(group, groupMap)
+    }
+    return result
+  }
+
+  private class Histogram {
+    private val bucketCounts = IntArray(BUCKET_BOUNDS_MILLIS.size + 1)
+    private var count = 0
+    private var sum = 0.0
+    private var min = Double.MAX_VALUE
+    private var max = 0.0
+
+    fun record(millis: Double) {
+      var bucket = BUCKET_BOUNDS_MILLIS.indexOfFirst { millis <= it }
+      if (bucket == -1) {
+        bucket = BUCKET_BOUNDS_MILLIS.size
+      }
+      bucketCounts[bucket]++
+      count++
+      sum += millis
+      min = minOf(min, millis)
+      max = maxOf(max, millis)
+    }
+
+    fun toWritableMap(): WritableMap {
+      val map = Arguments.createMap()
+      map.putInt("count", count)
+      map.putDouble("mean", if (count > 0) sum / count else 0.0)
+      map.putDouble("min", if (count > 0) min else 0.0)
+      map.putDouble("max", max)
+      val bounds = Arguments.createArray()
+      BUCKET_BOUNDS_MILLIS.forEach { bounds.pushDouble(it) }
+      map.putArray("bucketBounds", bounds)
+      val counts = Arguments.createArray()
+      bucketCounts.forEach { counts.pushInt(it) }
+      map.putArray("bucketCounts", counts)
+      return map
+    }
+  }
+}
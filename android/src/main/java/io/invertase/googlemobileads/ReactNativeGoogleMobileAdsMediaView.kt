@@ -18,6 +18,8 @@ package io.invertase.googlemobileads
  */
 
 import android.annotation.SuppressLint
+import android.graphics.Rect
+import android.view.ViewTreeObserver
 import android.widget.ImageView
 import com.facebook.react.bridge.ReactContext
 import com.google.android.gms.ads.nativead.MediaView
@@ -26,11 +28,37 @@ import com.google.android.gms.ads.nativead.MediaView
 class ReactNativeGoogleMobileAdsMediaView(
   private val context: ReactContext
 ): MediaView(context) {
+  private val visibleRect = Rect()
+  private val onScrollChangedListener = ViewTreeObserver.OnScrollChangedListener {
+    updateVisibleFraction()
+  }
+  private val onGlobalLayoutListener = ViewTreeObserver.OnGlobalLayoutListener {
+    updateVisibleFraction()
+  }
+
+  /**
+   * The fraction of this view currently on screen, between 0 and 1.
+   */
+  var visibleFraction = 0f
+    private set
+
+  val hasVideoContent: Boolean
+    get() = mediaContent?.hasVideoContent() == true
+
   fun setResponseId(responseId: String?) {
     val nativeModule = context.getNativeModule(ReactNativeGoogleMobileAdsNativeModule::class.java)
     nativeModule?.getNativeAd(responseId ?: "")?.let {
+      if (this.mediaContent == it.mediaContent) {
+        return
+      }
+      ReactNativeGoogleMobileAdsVideoPlaybackManager.reset(this)
+      // The view already has its final size, JS lays it out with the media's aspect ratio from
+      // the first pass, so only the content inside it needs laying out again.
       this.mediaContent = it.mediaContent
       requestLayout()
+      if (isAttachedToWindow) {
+        ReactNativeGoogleMobileAdsVideoPlaybackManager.update(this)
+      }
     }
   }
 
@@ -42,12 +70,62 @@ class ReactNativeGoogleMobileAdsMediaView(
     }
   }
 
+  /**
+   * Stops the current video and any pending layout pass before the view is reused for another ad,
+   * whose media content replaces the current one once its responseId is set.
+   */
+  fun recycle() {
+    removeCallbacks(measureAndLayout)
+    isLayoutPending = false
+    mediaContent?.videoController?.pause()
+    ReactNativeGoogleMobileAdsVideoPlaybackManager.reset(this)
+  }
+
+  override fun onAttachedToWindow() {
+    super.onAttachedToWindow()
+    viewTreeObserver.addOnScrollChangedListener(onScrollChangedListener)
+    viewTreeObserver.addOnGlobalLayoutListener(onGlobalLayoutListener)
+    updateVisibleFraction()
+    ReactNativeGoogleMobileAdsVideoPlaybackManager.update(this)
+  }
+
+  override fun onDetachedFromWindow() {
+    viewTreeObserver.removeOnScrollChangedListener(onScrollChangedListener)
+    viewTreeObserver.removeOnGlobalLayoutListener(onGlobalLayoutListener)
+    visibleFraction = 0f
+    ReactNativeGoogleMobileAdsVideoPlaybackManager.remove(this)
+    super.onDetachedFromWindow()
+  }
+
+  private fun updateVisibleFraction() {
+    val area = width.toFloat() * height
+    val fraction = if (isShown && area > 0 && getGlobalVisibleRect(visibleRect)) {
+      visibleRect.width() * visibleRect.height() / area
+    } else {
+      0f
+    }
+    if (fraction != visibleFraction) {
+      visibleFraction = fraction
+      if (hasVideoContent) {
+        ReactNativeGoogleMobileAdsVideoPlaybackManager.update(this)
+      }
+    }
+  }
+
   override fun requestLayout() {
     super.requestLayout()
-    post(measureAndLayout)
+    if (!isLayoutPending) {
+      isLayoutPending = true
+      post(measureAndLayout)
+    }
   }
 
+  // React Native does not lay out native children on its own, requests coming in before the
+  // posted pass runs are served by it.
+  private var isLayoutPending = false
+
   private val measureAndLayout = Runnable {
+    isLayoutPending = false
     measure(
       MeasureSpec.makeMeasureSpec(width, MeasureSpec.EXACTLY),
       MeasureSpec.makeMeasureSpec(height, MeasureSpec.EXACTLY)
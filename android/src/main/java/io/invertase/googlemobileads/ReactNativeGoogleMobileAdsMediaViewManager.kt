@@ -39,6 +39,15 @@ class ReactNativeGoogleMobileAdsMediaViewManager(
 
   override fun createViewInstance(context: ThemedReactContext): ReactNativeGoogleMobileAdsMediaView = ReactNativeGoogleMobileAdsMediaView(context)
 
+  override fun prepareToRecycleView(
+    reactContext: ThemedReactContext,
+    view: ReactNativeGoogleMobileAdsMediaView
+  ): ReactNativeGoogleMobileAdsMediaView? {
+    val recycledView = super.prepareToRecycleView(reactContext, view) ?: return null
+    recycledView.recycle()
+    return recycledView
+  }
+
   @ReactProp(name = "responseId")
   override fun setResponseId(view: ReactNativeGoogleMobileAdsMediaView, responseId: String?) {
     view.setResponseId(responseId)
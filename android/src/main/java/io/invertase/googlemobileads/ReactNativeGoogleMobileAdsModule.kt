@@ -179,6 +179,11 @@ class ReactNativeGoogleMobileAdsModule(
     MobileAds.setAppMuted(muted)
   }
 
+  @ReactMethod
+  fun getLatencyStats(promise: Promise) {
+    promise.resolve(ReactNativeGoogleMobileAdsLatencyStats.toWritableMap())
+  }
+
   companion object {
     const val NAME = "RNGoogleMobileAdsModule"
   }
@@ -0,0 +1,147 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.os.SystemClock
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Loaded native ads keyed by responseId, bounded so ads that JS never destroys cannot pile up.
+ *
+ * An entry expires [ttlMillis] after it was loaded. On top of that the least recently used
+ * entries are evicted once there are more than [maxSize] of them or their estimated weight
+ * exceeds [maxBytes]. Entries that [isEvictable] says are in use are never dropped either way,
+ * so the cache may go over its bounds while they are. [onEvicted] is told about every entry
+ * dropped and why.
+ *
+ * The cache is safe to use from any thread without a global lock. Each entry is removed at most
+ * once, and [bind] is atomic with respect to that removal: an ad is either bound while it is still
+ * cached or not returned at all.
+ */
+class ReactNativeGoogleMobileAdsNativeAdCache<T : Any>(
+  private val maxSize: Int,
+  private val maxBytes: Long,
+  private val ttlMillis: Long,
+  private val isEvictable: (T) -> Boolean,
+  private val onEvicted: (value: T, reason: String) -> Unit
+) {
+  private class Entry<T>(val value: T, val expiresAt: Long, val weightBytes: Long) {
+    @Volatile
+    var lastAccess = 0L
+
+    // Guarded by the entry itself.
+    var isRemoved = false
+  }
+
+  private val entries = ConcurrentHashMap<String, Entry<T>>()
+  private val totalBytes = AtomicLong()
+  private val lastAccess = AtomicLong()
+
+  /**
+   * Adds [value] loaded at [loadedAt] (an elapsedRealtime timestamp) and evicts whatever no
+   * longer fits.
+   */
+  fun put(responseId: String, value: T, loadedAt: Long, weightBytes: Long) {
+    val entry = Entry(value, loadedAt + ttlMillis, weightBytes)
+    entry.lastAccess = lastAccess.incrementAndGet()
+    totalBytes.addAndGet(weightBytes)
+    entries.put(responseId, entry)?.let { markRemoved(it) }
+
+    val evicted = takeExpired()
+    while (entries.size > maxSize || totalBytes.get() > maxBytes) {
+      // The ad just added stays even if it alone is over the budget.
+      val leastRecentlyUsed = entries.entries
+        .filter { it.key != responseId && isEvictable(it.value.value) }
+        .minByOrNull { it.value.lastAccess } ?: break
+      val reason = if (entries.size > maxSize) REASON_EVICTED else REASON_MEMORY
+      if (remove(leastRecentlyUsed.key, leastRecentlyUsed.value)) {
+        evicted.add(leastRecentlyUsed.value.value to reason)
+      }
+    }
+    evicted.forEach { onEvicted(it.first, it.second) }
+  }
+
+  /**
+   * Looks up the ad for [responseId], marks it as recently used and runs [binder] on it while it
+   * is guaranteed to stay cached. Returns null if there is no such ad or it just expired.
+   */
+  fun bind(responseId: String, binder: (T) -> Unit = {}): T? {
+    takeExpired().forEach { onEvicted(it.first, it.second) }
+    val entry = entries[responseId] ?: return null
+    synchronized(entry) {
+      if (entry.isRemoved) {
+        return null
+      }
+      entry.lastAccess = lastAccess.incrementAndGet()
+      binder(entry.value)
+      return entry.value
+    }
+  }
+
+  fun remove(responseId: String): T? {
+    val entry = entries[responseId] ?: return null
+    return if (remove(responseId, entry)) entry.value else null
+  }
+
+  /**
+   * Empties the cache without notifying anyone and returns what it held.
+   */
+  fun removeAll(): List<T> {
+    return entries.entries.filter { remove(it.key, it.value) }.map { it.value.value }
+  }
+
+  /**
+   * Removes [entry] if no one else did so first, and returns whether this call removed it.
+   */
+  private fun remove(responseId: String, entry: Entry<T>): Boolean {
+    if (!markRemoved(entry)) {
+      return false
+    }
+    entries.remove(responseId, entry)
+    return true
+  }
+
+  private fun markRemoved(entry: Entry<T>): Boolean {
+    synchronized(entry) {
+      if (entry.isRemoved) {
+        return false
+      }
+      entry.isRemoved = true
+    }
+    totalBytes.addAndGet(-entry.weightBytes)
+    return true
+  }
+
+  private fun takeExpired(): MutableList<Pair<T, String>> {
+    val now = SystemClock.elapsedRealtime()
+    val expired = ArrayList<Pair<T, String>>()
+    for ((responseId, entry) in entries) {
+      if (now >= entry.expiresAt && isEvictable(entry.value) && remove(responseId, entry)) {
+        expired.add(entry.value to REASON_EXPIRED)
+      }
+    }
+    return expired
+  }
+
+  companion object {
+    const val REASON_EXPIRED = "expired"
+    const val REASON_EVICTED = "evicted"
+    const val REASON_MEMORY = "memory"
+  }
+}
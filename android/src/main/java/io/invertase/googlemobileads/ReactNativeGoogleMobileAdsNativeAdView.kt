@@ -18,19 +18,16 @@ package io.invertase.googlemobileads
  */
 
 import android.annotation.SuppressLint
+import android.view.Choreographer
 import android.widget.FrameLayout
 import com.facebook.react.bridge.ReactContext
+import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.uimanager.UIManagerHelper
 import com.facebook.react.uimanager.common.UIManagerType
 import com.facebook.react.views.view.ReactViewGroup
 import com.google.android.gms.ads.nativead.MediaView
 import com.google.android.gms.ads.nativead.NativeAd
 import com.google.android.gms.ads.nativead.NativeAdView
-import kotlinx.coroutines.CoroutineScope
-import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.Job
-import kotlinx.coroutines.delay
-import kotlinx.coroutines.launch
 
 
 @SuppressLint("ViewConstructor")
@@ -40,7 +37,15 @@ class ReactNativeGoogleMobileAdsNativeAdView(
   val viewGroup = ReactViewGroup(context)
   private val nativeAdView = NativeAdView(context)
   private var nativeAd: NativeAd? = null
-  private var reloadJob: Job? = null
+  private var responseId: String? = null
+  private var isBindScheduled = false
+
+  // Binds once per frame, after every asset registered during the mount batch is known.
+  private val bindFrameCallback = Choreographer.FrameCallback {
+    isBindScheduled = false
+    nativeAd?.let { nativeAdView.setNativeAd(it) }
+    nativeAdView.rootView.requestLayout()
+  }
 
   init {
     nativeAdView.addView(viewGroup)
@@ -48,19 +53,55 @@ class ReactNativeGoogleMobileAdsNativeAdView(
   }
 
   fun setResponseId(responseId: String?) {
-    val nativeModule = context.getNativeModule(ReactNativeGoogleMobileAdsNativeModule::class.java)
-    nativeModule?.getNativeAd(responseId ?: "")?.let {
-      if (nativeAd == it) {
-        return
-      }
+    if (responseId == this.responseId) {
+      return
+    }
+    val nativeModule = getNativeModule()
+    nativeModule?.bindNativeAd(responseId ?: "")?.let {
+      unbindAd()
+      this.responseId = responseId
       nativeAd = it
       reloadAd()
     }
   }
 
+  private fun getNativeModule(): ReactNativeGoogleMobileAdsNativeModule? {
+    return context.getNativeModule(ReactNativeGoogleMobileAdsNativeModule::class.java)
+  }
+
+  /**
+   * Lets the module evict the ad this view displayed once it expires or makes room.
+   */
+  private fun unbindAd() {
+    val responseId = this.responseId ?: return
+    this.responseId = null
+    getNativeModule()?.unbindNativeAd(responseId)
+  }
+
   fun registerAsset(assetType: String, reactTag: Int) {
+    if (setAssetView(assetType, reactTag)) {
+      reloadAd()
+    }
+  }
+
+  /**
+   * Registers several assets at once, given as parallel lists of asset types and react tags, and
+   * binds the ad a single time afterwards.
+   */
+  fun registerAssets(assetTypes: ReadableArray, reactTags: ReadableArray) {
+    var hasRegistered = false
+    for (i in 0 until minOf(assetTypes.size(), reactTags.size())) {
+      val assetType = assetTypes.getString(i) ?: continue
+      hasRegistered = setAssetView(assetType, reactTags.getInt(i)) || hasRegistered
+    }
+    if (hasRegistered) {
+      reloadAd()
+    }
+  }
+
+  private fun setAssetView(assetType: String, reactTag: Int): Boolean {
     val uiManager = UIManagerHelper.getUIManagerForReactTag(context, reactTag)
-    val assetView = uiManager?.resolveView(reactTag) ?: return
+    val assetView = uiManager?.resolveView(reactTag) ?: return false
     when (assetType) {
       "advertiser" -> nativeAdView.advertiserView = assetView
       "body" -> nativeAdView.bodyView = assetView
@@ -72,32 +113,64 @@ class ReactNativeGoogleMobileAdsNativeAdView(
       "icon" -> nativeAdView.iconView = assetView
       "image" -> nativeAdView.imageView = assetView
       "media" -> nativeAdView.mediaView = assetView as MediaView
+      else -> return false
     }
-    reloadAd()
+    return true
   }
 
   private fun reloadAd() {
-    reloadJob?.cancel()
-    reloadJob = CoroutineScope(Dispatchers.Main).launch {
-      delay(100)
-      nativeAd?.let { nativeAdView.setNativeAd(it) }
-      nativeAdView.rootView.requestLayout()
+    if (isBindScheduled) {
+      return
     }
+    isBindScheduled = true
+    Choreographer.getInstance().postFrameCallback(bindFrameCallback)
   }
 
   override fun requestLayout() {
     super.requestLayout()
-    post(measureAndLayout)
+    if (!isLayoutPending) {
+      isLayoutPending = true
+      post(measureAndLayout)
+    }
+  }
+
+  /**
+   * Forgets the bound ad, its asset views and any pending bind, so the view hierarchy can be
+   * reused for another ad.
+   */
+  fun recycle() {
+    Choreographer.getInstance().removeFrameCallback(bindFrameCallback)
+    isBindScheduled = false
+    removeCallbacks(measureAndLayout)
+    isLayoutPending = false
+    unbindAd()
+    nativeAd = null
+    nativeAdView.advertiserView = null
+    nativeAdView.bodyView = null
+    nativeAdView.callToActionView = null
+    nativeAdView.headlineView = null
+    nativeAdView.priceView = null
+    nativeAdView.storeView = null
+    nativeAdView.starRatingView = null
+    nativeAdView.iconView = null
+    nativeAdView.imageView = null
+    nativeAdView.mediaView = null
   }
 
   fun destroy() {
-    reloadJob?.cancel()
-    reloadJob = null
+    Choreographer.getInstance().removeFrameCallback(bindFrameCallback)
+    isBindScheduled = false
+    unbindAd()
     nativeAdView.removeView(viewGroup)
     nativeAdView.destroy()
   }
 
+  // React Native does not lay out native children on its own, requests coming in before the
+  // posted pass runs are served by it.
+  private var isLayoutPending = false
+
   private val measureAndLayout = Runnable {
+    isLayoutPending = false
     measure(
       MeasureSpec.makeMeasureSpec(width, MeasureSpec.EXACTLY),
       MeasureSpec.makeMeasureSpec(height, MeasureSpec.EXACTLY)
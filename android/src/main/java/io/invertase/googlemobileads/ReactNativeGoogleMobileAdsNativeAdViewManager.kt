@@ -20,6 +20,7 @@ package io.invertase.googlemobileads
 import android.view.View
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactMethod
+import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.module.annotations.ReactModule
 import com.facebook.react.uimanager.ThemedReactContext
 import com.facebook.react.uimanager.ViewGroupManager
@@ -50,7 +51,9 @@ class ReactNativeGoogleMobileAdsNativeAdViewManager(
     reactContext: ThemedReactContext,
     view: ReactNativeGoogleMobileAdsNativeAdView
   ): ReactNativeGoogleMobileAdsNativeAdView? {
-    return null
+    val recycledView = super.prepareToRecycleView(reactContext, view) ?: return null
+    recycledView.recycle()
+    return recycledView
   }
 
   @ReactProp(name = "responseId")
@@ -63,6 +66,15 @@ class ReactNativeGoogleMobileAdsNativeAdViewManager(
     view.registerAsset(assetKey, reactTag)
   }
 
+  @ReactMethod
+  override fun registerAssets(
+    view: ReactNativeGoogleMobileAdsNativeAdView,
+    assetTypes: ReadableArray,
+    reactTags: ReadableArray
+  ) {
+    view.registerAssets(assetTypes, reactTags)
+  }
+
   override fun addView(parent: ReactNativeGoogleMobileAdsNativeAdView, child: View, index: Int) {
     parent.viewGroup.addView(child, index)
   }
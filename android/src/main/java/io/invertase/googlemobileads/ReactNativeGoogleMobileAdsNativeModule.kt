@@ -17,93 +17,806 @@ package io.invertase.googlemobileads
  *
  */
 
+import android.app.Activity
+import android.content.Context
+import android.graphics.drawable.BitmapDrawable
+import android.os.SystemClock
+import com.facebook.drawee.backends.pipeline.Fresco
+import com.facebook.imagepipeline.request.ImageRequest
 import com.facebook.react.bridge.Arguments
 import com.facebook.react.bridge.Promise
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactMethod
+import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableMap
 import com.facebook.react.module.annotations.ReactModule
 import com.google.android.gms.ads.AdListener
 import com.google.android.gms.ads.AdLoader
+import com.google.android.gms.ads.AdSize
+import com.google.android.gms.ads.LoadAdError
 import com.google.android.gms.ads.MediaAspectRatio
 import com.google.android.gms.ads.VideoController.VideoLifecycleCallbacks
 import com.google.android.gms.ads.VideoOptions
+import com.google.android.gms.ads.formats.OnAdManagerAdViewLoadedListener
 import com.google.android.gms.ads.nativead.NativeAd
 import com.google.android.gms.ads.nativead.NativeAdOptions
+import io.invertase.googlemobileads.common.ReactNativeJSON
+import java.util.concurrent.atomic.AtomicInteger
 
 @ReactModule(ReactNativeGoogleMobileAdsNativeModule.NAME)
 class ReactNativeGoogleMobileAdsNativeModule(
   reactContext: ReactApplicationContext
 ) : NativeGoogleMobileAdsNativeModuleSpec(reactContext) {
-  private val adHolders = HashMap<String, NativeAdHolder>()
+  private val adHoldersMaxSize =
+    ReactNativeJSON.getSharedInstance().getIntValue(CACHE_MAX_SIZE_KEY, 16)
+  private val adHolders = ReactNativeGoogleMobileAdsNativeAdCache<NativeAdHolder>(
+    adHoldersMaxSize,
+    ReactNativeJSON.getSharedInstance().getLongValue(CACHE_MAX_MEGABYTES_KEY, 48) * 1024 * 1024,
+    nativeAdTtlMillis,
+    // An ad bound to a NativeAdView is owned by the screen showing it until the view lets go.
+    isEvictable = { !it.isBound },
+    onEvicted = { holder, reason ->
+      val eventData = Arguments.createMap()
+      eventData.putString("reason", reason)
+      holder.emitAdEvent("evicted", eventData)
+      holder.destroy()
+    }
+  )
+  private val prefetchQueues = HashMap<String, NativeAdPrefetchQueue>()
+  private val placements = HashMap<String, NativeAdPlacement>()
 
   override fun getName() = NAME
 
   @ReactMethod
   override fun load(adUnitId: String, requestOptions: ReadableMap, promise: Promise) {
-    val holder = NativeAdHolder(adUnitId, requestOptions)
-    holder.loadAd { nativeAd ->
-      val responseId = nativeAd.responseInfo?.responseId ?: return@loadAd
-      adHolders[responseId] = holder
-
-      val data = Arguments.createMap()
-      data.putString("responseId", responseId)
-      data.putString("advertiser", nativeAd.advertiser)
-      data.putString("body", nativeAd.body)
-      data.putString("callToAction", nativeAd.callToAction)
-      data.putString("headline", nativeAd.headline)
-      data.putString("price", nativeAd.price)
-      data.putString("store", nativeAd.store)
-      nativeAd.starRating?.let {
-        data.putDouble("starRating", it)
-      } ?: run {
-        data.putNull("starRating")
-      }
-      nativeAd.icon?.let {
-        val icon = Arguments.createMap()
-        icon.putDouble("scale", it.scale)
-        icon.putString("url", it.uri.toString())
-        data.putMap("icon", icon)
-      } ?: run {
-        data.putNull("icon")
-      }
-      val mediaContent = Arguments.createMap()
-      nativeAd.mediaContent?.let {
-        mediaContent.putDouble("aspectRatio", it.aspectRatio.toDouble())
-        mediaContent.putBoolean("hasVideoContent", it.hasVideoContent())
-        mediaContent.putDouble("duration", it.duration.toDouble())
-        data.putMap("mediaContent", mediaContent)
-      }
-
-      promise.resolve(data)
+    val storeKey = ReactNativeGoogleMobileAdsAdStore.getKey(NAME, adUnitId, requestOptions)
+
+    // A native ad left unused by a previous React instance for the same request is adopted first.
+    val parkedHolder = adoptParkedHolder(storeKey)
+    if (parkedHolder != null) {
+      val responseId = registerHolder(parkedHolder)
+      promise.resolve(getNativeAdData(responseId, parkedHolder.nativeAd!!))
+      return
+    }
+
+    ReactNativeGoogleMobileAdsConsentGate.await(reactApplicationContext) { canRequestAds ->
+      if (!canRequestAds) {
+        rejectConsentRequired(promise)
+        return@await
+      }
+      val holder = NativeAdHolder(storeKey)
+      holder.loadAd(reactApplicationContext.applicationContext, adUnitId, requestOptions) { nativeAd ->
+        val responseId = nativeAd.responseInfo?.responseId ?: return@loadAd
+        registerHolder(holder)
+        promise.resolve(getNativeAdData(responseId, nativeAd))
+      }
+    }
+  }
+
+  /**
+   * Requests a native ad and an Ad Manager banner of one of [bannerSizes] with a single AdLoader
+   * and resolves with whichever format the ad server returned.
+   *
+   * A native ad is registered like any other. A banner is kept in
+   * [ReactNativeGoogleMobileAdsBannerSlots] under a slotId that a banner view takes instead of
+   * loading one itself. The request is made with the current Activity, which the banner view is
+   * built with, as the SDK recommends for mediation.
+   */
+  @ReactMethod
+  override fun loadMultiFormat(
+    adUnitId: String,
+    bannerSizes: ReadableArray,
+    requestOptions: ReadableMap,
+    promise: Promise
+  ) {
+    val adSizes = (0 until bannerSizes.size()).map {
+      ReactNativeGoogleMobileAdsCommon.stringToAdSize(bannerSizes.getString(it))
+    }
+    val storeKey = ReactNativeGoogleMobileAdsAdStore.getKey(NAME, adUnitId, requestOptions)
+    ReactNativeGoogleMobileAdsConsentGate.await(reactApplicationContext) { canRequestAds ->
+      if (!canRequestAds) {
+        rejectConsentRequired(promise)
+        return@await
+      }
+      val activity = currentActivity
+      if (activity == null) {
+        promise.reject(
+          "null-activity",
+          "Multi-format ad attempted to load but the current Activity was null."
+        )
+        return@await
+      }
+      requestMultiFormatAd(
+        activity,
+        storeKey,
+        adUnitId,
+        requestOptions,
+        adSizes.toTypedArray(),
+        promise
+      )
+    }
+  }
+
+  private fun requestMultiFormatAd(
+    activity: Activity,
+    storeKey: String,
+    adUnitId: String,
+    requestOptions: ReadableMap,
+    adSizes: Array<AdSize>,
+    promise: Promise
+  ) {
+    val holder = NativeAdHolder(storeKey)
+    holder.loadMultiFormatAd(
+      activity,
+      adUnitId,
+      requestOptions,
+      adSizes,
+      { nativeAd ->
+        val responseId = nativeAd.responseInfo?.responseId ?: return@loadMultiFormatAd
+        registerHolder(holder)
+        val result = Arguments.createMap()
+        result.putString("format", "native")
+        result.putMap("ad", getNativeAdData(responseId, nativeAd))
+        promise.resolve(result)
+      },
+      { adView ->
+        val slotId = ReactNativeGoogleMobileAdsBannerSlots.put(adView)
+        val adSize = adView.adSize
+        val result = Arguments.createMap()
+        result.putString("format", "banner")
+        result.putString("slotId", slotId)
+        result.putDouble("width", adSize?.width?.toDouble() ?: 0.0)
+        result.putDouble("height", adSize?.height?.toDouble() ?: 0.0)
+        promise.resolve(result)
+      },
+      { error ->
+        val codeAndMessage = ReactNativeGoogleMobileAdsCommon.getCodeAndMessageFromAdError(error)
+        promise.reject(codeAndMessage[0], codeAndMessage[1])
+      }
+    )
+  }
+
+  /**
+   * Loads up to [count] native ads in parallel and streams each one to JS as a `batch_ad_loaded`
+   * event as soon as it arrives, followed by one `batch_completed` event.
+   *
+   * [count] is capped at the size of the ad cache, a larger batch would push its own first ads out
+   * of it.
+   */
+  @ReactMethod
+  override fun loadMany(
+    batchId: Double,
+    adUnitId: String,
+    count: Double,
+    requestOptions: ReadableMap
+  ) {
+    val batch = NativeAdBatch(
+      minOf(count.toInt(), adHoldersMaxSize),
+      onAdLoaded = { holder -> onBatchAdLoaded(batchId.toInt(), holder) },
+      onCompleted = { loaded, error -> onBatchCompleted(batchId.toInt(), loaded, error) }
+    )
+    loadBatch(adUnitId, requestOptions, batch)
+  }
+
+  /**
+   * Sets up the prefetch queue of [placement]. Once it holds [lowWatermark] ads or fewer, it is
+   * refilled in the background up to [highWatermark] ads. A [highWatermark] of 0 removes it.
+   */
+  @ReactMethod
+  override fun configurePrefetch(
+    placement: String,
+    adUnitId: String,
+    lowWatermark: Double,
+    highWatermark: Double,
+    requestOptions: ReadableMap
+  ) {
+    val queue = synchronized(prefetchQueues) {
+      if (highWatermark <= 0) {
+        prefetchQueues.remove(placement)?.close()
+        return
+      }
+      prefetchQueues[placement]?.takeIf {
+        it.adUnitId == adUnitId &&
+          it.storeKey == ReactNativeGoogleMobileAdsAdStore.getKey(NAME, adUnitId, requestOptions)
+      } ?: NativeAdPrefetchQueue(placement, adUnitId, requestOptions).also {
+        prefetchQueues.put(placement, it)?.close()
+      }
+    }
+    queue.configure(lowWatermark.toInt(), maxOf(lowWatermark.toInt() + 1, highWatermark.toInt()))
+  }
+
+  /**
+   * Takes an already loaded ad from the prefetch queue of [placement], or returns null when it
+   * is empty. Runs synchronously so a cell can render the ad in the same frame it mounts.
+   */
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  override fun dequeue(placement: String): WritableMap? {
+    val queue = synchronized(prefetchQueues) { prefetchQueues[placement] } ?: return null
+    val holder = queue.poll() ?: return null
+    val responseId = registerHolder(holder)
+    return getNativeAdData(responseId, holder.nativeAd!!)
+  }
+
+  /**
+   * Sets up the list placement of the same name as a prefetch queue. Ads from that queue are
+   * assigned to the slots near the visible range of the list and recycled once those slots are
+   * more than [recycleDistance] positions away from it.
+   */
+  @ReactMethod
+  override fun configurePlacement(
+    placement: String,
+    firstPosition: Double,
+    spacing: Double,
+    maxAds: Double,
+    preloadDistance: Double,
+    recycleDistance: Double
+  ) {
+    val index = ReactNativeGoogleMobileAdsPlacementIndex<NativeAdHolder>(
+      firstPosition.toInt(),
+      spacing.toInt(),
+      maxAds.toInt()
+    )
+    val previous = synchronized(placements) {
+      placements.put(
+        placement,
+        NativeAdPlacement(placement, index, preloadDistance.toInt(), recycleDistance.toInt())
+      )
+    }
+    previous?.recycleAll()
+  }
+
+  @ReactMethod
+  override fun removePlacement(placement: String) {
+    synchronized(placements) { placements.remove(placement) }?.recycleAll()
+  }
+
+  @ReactMethod
+  override fun setVisibleRange(placement: String, firstPosition: Double, lastPosition: Double) {
+    getPlacement(placement)?.setVisibleRange(firstPosition.toInt(), lastPosition.toInt())
+  }
+
+  /**
+   * Returns the ad assigned to [position] of [placement], or null if the position shows content
+   * or its ad has not been assigned yet. Runs synchronously so cells can render without a round
+   * trip.
+   */
+  @ReactMethod(isBlockingSynchronousMethod = true)
+  override fun getAdAtPosition(placement: String, position: Double): WritableMap? {
+    val holder = getPlacement(placement)?.getAd(position.toInt()) ?: return null
+    val nativeAd = holder.nativeAd ?: return null
+    val responseId = nativeAd.responseInfo?.responseId ?: return null
+    return getNativeAdData(responseId, nativeAd)
+  }
+
+  private fun getPlacement(placement: String): NativeAdPlacement? {
+    return synchronized(placements) { placements[placement] }
+  }
+
+  @ReactMethod
+  override fun getPrefetchStats(promise: Promise) {
+    val stats = Arguments.createMap()
+    synchronized(prefetchQueues) {
+      prefetchQueues.values.forEach { stats.putMap(it.placement, it.getStats()) }
+    }
+    promise.resolve(stats)
+  }
+
+  /**
+   * Fills [batch], first with ads parked by a previous React instance and then from the network.
+   */
+  private fun loadBatch(adUnitId: String, requestOptions: ReadableMap, batch: NativeAdBatch) {
+    val storeKey = ReactNativeGoogleMobileAdsAdStore.getKey(NAME, adUnitId, requestOptions)
+    while (batch.remaining > 0) {
+      val parkedHolder = adoptParkedHolder(storeKey) ?: break
+      batch.deliver(parkedHolder)
+    }
+    if (batch.remaining <= 0) {
+      batch.onCompleted(batch.loaded, null)
+      return
+    }
+
+    // Without consent the batch completes with the parked ads it already got.
+    ReactNativeGoogleMobileAdsConsentGate.await(reactApplicationContext) { canRequestAds ->
+      if (canRequestAds) {
+        loadBatchFromNetwork(adUnitId, requestOptions, storeKey, batch)
+      } else {
+        batch.onCompleted(batch.loaded, null)
+      }
+    }
+  }
+
+  /**
+   * Requests the rest of [batch], each ad with an AdLoader of its own. The SDK reports impressions,
+   * clicks and the like on the loader without saying which of its ads they belong to, so a loader
+   * shared by several ads could not attribute them.
+   */
+  private fun loadBatchFromNetwork(
+    adUnitId: String,
+    requestOptions: ReadableMap,
+    storeKey: String,
+    batch: NativeAdBatch
+  ) {
+    val requestsLeft = AtomicInteger(batch.remaining)
+    var lastError: LoadAdError? = null
+    val onRequestFinished = {
+      if (requestsLeft.decrementAndGet() == 0) {
+        batch.onCompleted(batch.loaded, lastError)
+      }
+    }
+    repeat(batch.remaining) {
+      val holder = NativeAdHolder(storeKey)
+      holder.loadAd(
+        reactApplicationContext.applicationContext,
+        adUnitId,
+        requestOptions,
+        failedListener = { error ->
+          lastError = error
+          onRequestFinished()
+        }
+      ) {
+        if (holder.responseId != null) {
+          batch.deliver(holder)
+        } else {
+          holder.destroy()
+        }
+        onRequestFinished()
+      }
+    }
+  }
+
+  private fun rejectConsentRequired(promise: Promise) {
+    promise.reject(
+      ReactNativeGoogleMobileAdsConsentGate.ERROR_CODE,
+      ReactNativeGoogleMobileAdsConsentGate.ERROR_MESSAGE
+    )
+  }
+
+  private fun adoptParkedHolder(storeKey: String): NativeAdHolder? {
+    while (true) {
+      val parkedHolder = ReactNativeGoogleMobileAdsAdStore.adopt(storeKey)?.ad as? NativeAdHolder
+        ?: return null
+      if (parkedHolder.responseId != null) {
+        return parkedHolder
+      }
+      parkedHolder.destroy()
+    }
+  }
+
+  private fun registerHolder(holder: NativeAdHolder): String {
+    val responseId = holder.responseId!!
+    holder.onAdEvent = { emitOnAdEvent(it) }
+    adHolders.put(responseId, holder, holder.loadedAt, holder.weightBytes)
+    return responseId
+  }
+
+  private fun onBatchAdLoaded(batchId: Int, holder: NativeAdHolder) {
+    val responseId = registerHolder(holder)
+    val payload = Arguments.createMap()
+    payload.putString("responseId", responseId)
+    payload.putString("type", "batch_ad_loaded")
+    payload.putInt("batchId", batchId)
+    payload.putMap("ad", getNativeAdData(responseId, holder.nativeAd!!))
+    emitOnAdEvent(payload)
+  }
+
+  private fun onBatchCompleted(batchId: Int, loaded: Int, error: LoadAdError?) {
+    val payload = Arguments.createMap()
+    payload.putString("responseId", "")
+    payload.putString("type", "batch_completed")
+    payload.putInt("batchId", batchId)
+    payload.putInt("loaded", loaded)
+    if (error != null) {
+      val codeAndMessage = ReactNativeGoogleMobileAdsCommon.getCodeAndMessageFromAdError(error)
+      val errorMap = Arguments.createMap()
+      errorMap.putString("code", codeAndMessage[0])
+      errorMap.putString("message", codeAndMessage[1])
+      payload.putMap("error", errorMap)
+    }
+    emitOnAdEvent(payload)
+  }
+
+  private fun getNativeAdData(responseId: String, nativeAd: NativeAd): WritableMap {
+    val data = Arguments.createMap()
+    data.putString("responseId", responseId)
+    data.putString("advertiser", nativeAd.advertiser)
+    data.putString("body", nativeAd.body)
+    data.putString("callToAction", nativeAd.callToAction)
+    data.putString("headline", nativeAd.headline)
+    data.putString("price", nativeAd.price)
+    data.putString("store", nativeAd.store)
+    nativeAd.starRating?.let {
+      data.putDouble("starRating", it)
+    } ?: run {
+      data.putNull("starRating")
+    }
+    nativeAd.icon?.let {
+      val icon = Arguments.createMap()
+      icon.putDouble("scale", it.scale)
+      icon.putString("url", it.uri.toString())
+      data.putMap("icon", icon)
+    } ?: run {
+      data.putNull("icon")
+    }
+    val images = Arguments.createArray()
+    nativeAd.images.forEach {
+      val image = Arguments.createMap()
+      image.putDouble("scale", it.scale)
+      image.putString("url", it.uri.toString())
+      images.pushMap(image)
     }
+    data.putArray("images", images)
+    val mediaContent = Arguments.createMap()
+    nativeAd.mediaContent?.let {
+      mediaContent.putDouble("aspectRatio", it.aspectRatio.toDouble())
+      mediaContent.putBoolean("hasVideoContent", it.hasVideoContent())
+      mediaContent.putDouble("duration", it.duration.toDouble())
+      data.putMap("mediaContent", mediaContent)
+    }
+    return data
   }
 
   @ReactMethod
   override fun destroy(responseId: String) {
-    adHolders[responseId]?.destroy()
-    adHolders.remove(responseId)
+    adHolders.remove(responseId)?.destroy()
   }
 
   override fun invalidate() {
     super.invalidate()
-    adHolders.values.forEach {
-      it.destroy()
+    adHolders.removeAll().forEach { park(it) }
+    synchronized(placements) {
+      // The assigned ads were registered and have just been parked with the others.
+      placements.clear()
+    }
+    synchronized(prefetchQueues) {
+      prefetchQueues.values.forEach { it.close() }
+      prefetchQueues.clear()
+    }
+  }
+
+  /**
+   * Ads that were never shown are still valid, park them so the next React instance can adopt
+   * them. Shown ads already had their impression and are released.
+   */
+  private fun park(holder: NativeAdHolder) {
+    holder.onAdEvent = null
+    if (holder.hasImpression) {
+      holder.destroy()
+    } else {
+      ReactNativeGoogleMobileAdsAdStore.park(
+        holder.storeKey,
+        holder,
+        holder.loadedAt + nativeAdTtlMillis,
+        holder::destroy
+      )
     }
-    adHolders.clear()
   }
 
   fun getNativeAd(responseId: String): NativeAd? {
-    return adHolders[responseId]?.nativeAd
+    return adHolders.bind(responseId)?.nativeAd
+  }
+
+  /**
+   * Like [getNativeAd], for a NativeAdView that displays the ad. The ad is not evicted until the
+   * view calls [unbindNativeAd].
+   */
+  fun bindNativeAd(responseId: String): NativeAd? {
+    // Safe from any thread, the holder cannot be evicted between the lookup and the bind.
+    return adHolders.bind(responseId) { it.bind() }?.nativeAd
+  }
+
+  /**
+   * Called once a NativeAdView no longer displays the ad, which is then evicted like any other.
+   */
+  fun unbindNativeAd(responseId: String) {
+    adHolders.bind(responseId) { it.unbind() }
+  }
+
+  private class NativeAdBatch(
+    val count: Int,
+    val onAdLoaded: (NativeAdHolder) -> Unit,
+    val onCompleted: (loaded: Int, error: LoadAdError?) -> Unit
+  ) {
+    var loaded = 0
+      private set
+
+    val remaining: Int
+      get() = count - loaded
+
+    fun deliver(holder: NativeAdHolder) {
+      loaded++
+      onAdLoaded(holder)
+    }
+  }
+
+  /**
+   * Loaded ads of one placement, kept ready for [dequeue]. The queue is refilled in the background
+   * whenever it drops to the low watermark, and ads that expire while waiting are dropped.
+   */
+  private inner class NativeAdPrefetchQueue(
+    val placement: String,
+    val adUnitId: String,
+    private val requestOptions: ReadableMap
+  ) {
+    val storeKey = ReactNativeGoogleMobileAdsAdStore.getKey(NAME, adUnitId, requestOptions)
+
+    private val holders = ArrayDeque<NativeAdHolder>()
+    private var lowWatermark = 0
+    private var highWatermark = 0
+    private var isRefilling = false
+    private var isClosed = false
+    private var hits = 0
+    private var misses = 0
+
+    fun configure(lowWatermark: Int, highWatermark: Int) {
+      synchronized(this) {
+        this.lowWatermark = lowWatermark
+        this.highWatermark = highWatermark
+      }
+      refillIfNeeded()
+    }
+
+    fun poll(): NativeAdHolder? {
+      val holder = take()
+      refillIfNeeded()
+      return holder
+    }
+
+    /**
+     * Like [poll], but leaves refilling to the caller so it can be done outside of its own locks.
+     */
+    fun take(): NativeAdHolder? {
+      synchronized(this) {
+        dropExpired()
+        return holders.removeFirstOrNull().also {
+          if (it != null) hits++ else misses++
+        }
+      }
+    }
+
+    /**
+     * Puts back an ad that was taken but never displayed, to be handed out first.
+     */
+    fun offer(holder: NativeAdHolder) {
+      val isQueued = synchronized(this) {
+        if (!isClosed) {
+          holders.addFirst(holder)
+        }
+        !isClosed
+      }
+      if (!isQueued) {
+        park(holder)
+      }
+    }
+
+    fun getStats(): WritableMap {
+      val stats = Arguments.createMap()
+      synchronized(this) {
+        stats.putInt("queued", holders.size)
+        stats.putInt("hits", hits)
+        stats.putInt("misses", misses)
+        val lookups = hits + misses
+        stats.putDouble("hitRate", if (lookups > 0) hits.toDouble() / lookups else 0.0)
+      }
+      ReactNativeGoogleMobileAdsLatencyStats.getHistogram(getStatsGroup(), "refill")?.let {
+        stats.putMap("refillLatency", it)
+      }
+      return stats
+    }
+
+    /**
+     * Stops refilling and hands the queued ads, and any still on their way, to the AdStore so a
+     * later React instance can adopt them.
+     */
+    fun close() {
+      val queued = synchronized(this) {
+        isClosed = true
+        holders.toList().also { holders.clear() }
+      }
+      queued.forEach { park(it) }
+    }
+
+    fun refillIfNeeded() {
+      val count = synchronized(this) {
+        dropExpired()
+        if (isClosed || isRefilling || holders.size > lowWatermark) {
+          return
+        }
+        isRefilling = true
+        highWatermark - holders.size
+      }
+      val startedAt = ReactNativeGoogleMobileAdsLatencyStats.now()
+      val batch = NativeAdBatch(
+        count,
+        onAdLoaded = { holder ->
+          val isQueued = synchronized(this) {
+            if (!isClosed) {
+              holders.addLast(holder)
+            }
+            !isClosed
+          }
+          if (isQueued) {
+            getPlacement(placement)?.assignAds()
+          } else {
+            park(holder)
+          }
+        },
+        onCompleted = { loaded, _ ->
+          synchronized(this) {
+            isRefilling = false
+          }
+          if (loaded > 0) {
+            ReactNativeGoogleMobileAdsLatencyStats.record(
+              getStatsGroup(),
+              "refill",
+              ReactNativeGoogleMobileAdsLatencyStats.millisBetween(
+                startedAt,
+                ReactNativeGoogleMobileAdsLatencyStats.now()
+              )
+            )
+          }
+        }
+      )
+      loadBatch(adUnitId, requestOptions, batch)
+    }
+
+    // Must hold the queue's lock.
+    private fun dropExpired() {
+      val now = SystemClock.elapsedRealtime()
+      val expired = holders.filter {
+        it.nativeAd == null || now >= it.loadedAt + nativeAdTtlMillis
+      }
+      holders.removeAll(expired)
+      expired.forEach { it.destroy() }
+    }
+
+    private fun getStatsGroup(): String {
+      return "native:$placement"
+    }
+  }
+
+  /**
+   * Native ads placed in a list. Ads are taken from the prefetch queue of the same name as the
+   * visible range comes within [preloadDistance] positions of their slots, and JS is told which
+   * positions got one with a `placement_updated` event.
+   *
+   * Slots more than [recycleDistance] positions away from the visible range give up their ads.
+   * Ads that were displayed are destroyed, the others go back to the queue for another slot. In
+   * both cases JS gets an `evicted` event for them.
+   */
+  private inner class NativeAdPlacement(
+    private val placement: String,
+    private val index: ReactNativeGoogleMobileAdsPlacementIndex<NativeAdHolder>,
+    private val preloadDistance: Int,
+    private val recycleDistance: Int
+  ) {
+    private var visibleRange: IntRange? = null
+
+    fun getAd(position: Int): NativeAdHolder? {
+      synchronized(this) {
+        val slot = index.getSlot(position)
+        if (slot < 0) {
+          return null
+        }
+        val holder = index[slot] ?: return null
+        if (holder.nativeAd == null) {
+          // Destroyed from JS or evicted from the cache, the slot gets a new ad on the next pass.
+          index.remove(slot)
+          return null
+        }
+        return holder
+      }
+    }
+
+    fun setVisibleRange(firstPosition: Int, lastPosition: Int) {
+      val recycled = synchronized(this) {
+        visibleRange = firstPosition..lastPosition
+        index.removeOutside(
+          index.getSlots(firstPosition - recycleDistance, lastPosition + recycleDistance)
+        )
+      }
+      recycled.forEach { recycle(it) }
+      assignAds()
+    }
+
+    /**
+     * Gives every slot near the visible range that has no ad one from the prefetch queue.
+     */
+    fun assignAds() {
+      val queue = synchronized(prefetchQueues) { prefetchQueues[placement] } ?: return
+      val positions = Arguments.createArray()
+      synchronized(this) {
+        val range = visibleRange ?: return
+        for (slot in index.getSlots(range.first - preloadDistance, range.last + preloadDistance)) {
+          if (index[slot]?.nativeAd != null) {
+            continue
+          }
+          val holder = queue.take() ?: break
+          registerHolder(holder)
+          index[slot] = holder
+          positions.pushInt(index.getPosition(slot))
+        }
+      }
+      queue.refillIfNeeded()
+      if (positions.size() > 0) {
+        val payload = Arguments.createMap()
+        payload.putString("responseId", "")
+        payload.putString("type", "placement_updated")
+        payload.putString("placement", placement)
+        payload.putArray("positions", positions)
+        emitOnAdEvent(payload)
+      }
+    }
+
+    fun recycleAll() {
+      synchronized(this) { index.removeAll() }.forEach { recycle(it) }
+    }
+
+    private fun recycle(holder: NativeAdHolder) {
+      val responseId = holder.responseId ?: return
+      if (adHolders.remove(responseId) == null) {
+        // Already destroyed from JS or evicted from the cache.
+        return
+      }
+      val eventData = Arguments.createMap()
+      eventData.putString("reason", REASON_RECYCLED)
+      holder.emitAdEvent("evicted", eventData)
+      holder.onAdEvent = null
+      val queue = synchronized(prefetchQueues) { prefetchQueues[placement] }
+      if (queue == null || holder.hasImpression || holder.boundAt > 0) {
+        holder.destroy()
+      } else {
+        queue.offer(holder)
+      }
+    }
   }
 
-  private inner class NativeAdHolder(private val adUnitId: String, private val requestOptions: ReadableMap) {
+  /**
+   * Owns a native ad and its listeners. It does not reference the module, so it can outlive the
+   * React instance that loaded it; events go to whichever module currently set [onAdEvent].
+   */
+  private class NativeAdHolder(val storeKey: String) {
+    @Volatile
     var nativeAd: NativeAd? = null
       private set
 
-    private val adListener: AdListener = object : AdListener() {
+    val responseId: String?
+      get() = nativeAd?.responseInfo?.responseId
+
+    var loadedAt = 0L
+      private set
+
+    var weightBytes = 0L
+      private set
+
+    // When the ad was first bound to a NativeAdView, or 0 if it never was.
+    @Volatile
+    var boundAt = 0L
+      private set
+
+    private val bindCount = AtomicInteger()
+
+    val isBound: Boolean
+      get() = bindCount.get() > 0
+
+    @Volatile
+    var hasImpression = false
+      private set
+
+    @Volatile
+    var onAdEvent: ((WritableMap) -> Unit)? = null
+
+    /**
+     * The listener of the AdLoader loading this holder's ad. It only ever loads that one ad, so the
+     * events it reports belong to it.
+     */
+    private fun getAdListener(failedListener: (LoadAdError) -> Unit) = object : AdListener() {
+      override fun onAdFailedToLoad(error: LoadAdError) {
+        failedListener(error)
+      }
+
       override fun onAdImpression() {
-        emitAdEvent("impression")
+        onImpression()
       }
 
       override fun onAdClicked() {
@@ -141,7 +854,165 @@ class ReactNativeGoogleMobileAdsNativeModule(
       }
     }
 
-    fun loadAd(loadedListener: NativeAd.OnNativeAdLoadedListener) {
+    fun loadAd(
+      context: Context,
+      adUnitId: String,
+      requestOptions: ReadableMap,
+      failedListener: (LoadAdError) -> Unit = {},
+      loadedListener: NativeAd.OnNativeAdLoadedListener
+    ) {
+      val adLoader = AdLoader.Builder(context, adUnitId)
+        .withNativeAdOptions(buildNativeAdOptions(requestOptions))
+        .withAdListener(getAdListener(failedListener))
+        .forNativeAd { nativeAd ->
+          attach(nativeAd, getReturnUrlsForImageAssets(requestOptions))
+          loadedListener.onNativeAdLoaded(nativeAd)
+        }
+        .build()
+      val adRequest = ReactNativeGoogleMobileAdsCommon.buildAdRequest(requestOptions)
+      adLoader.loadAd(adRequest)
+    }
+
+    /**
+     * Like [loadAd], but the same request may also be filled by an Ad Manager banner of one of
+     * [adSizes]. Exactly one of the listeners is called. This holder only takes ownership of a
+     * native ad, a banner is handed to [adViewLoadedListener] as is.
+     */
+    fun loadMultiFormatAd(
+      context: Context,
+      adUnitId: String,
+      requestOptions: ReadableMap,
+      adSizes: Array<AdSize>,
+      nativeAdLoadedListener: NativeAd.OnNativeAdLoadedListener,
+      adViewLoadedListener: OnAdManagerAdViewLoadedListener,
+      failedListener: (LoadAdError) -> Unit
+    ) {
+      val adLoader = AdLoader.Builder(context, adUnitId)
+        .withNativeAdOptions(buildNativeAdOptions(requestOptions))
+        .withAdListener(getAdListener(failedListener))
+        .forNativeAd { nativeAd ->
+          attach(nativeAd, getReturnUrlsForImageAssets(requestOptions))
+          nativeAdLoadedListener.onNativeAdLoaded(nativeAd)
+        }
+        .forAdManagerAdView(adViewLoadedListener, *adSizes)
+        .build()
+      val adRequest = ReactNativeGoogleMobileAdsCommon.buildAdRequest(requestOptions)
+      adLoader.loadAd(adRequest)
+    }
+
+    /**
+     * Takes ownership of [nativeAd] and wires up its per-ad callbacks. When the SDK only returned
+     * the URLs of the image assets, [prefetchImages] warms the app's image cache with them.
+     */
+    fun attach(nativeAd: NativeAd, prefetchImages: Boolean) {
+      this.nativeAd = nativeAd
+      loadedAt = SystemClock.elapsedRealtime()
+      weightBytes = estimateWeightBytes(nativeAd)
+      if (prefetchImages) {
+        prefetchImageAssets(nativeAd)
+      }
+      nativeAd.mediaContent?.videoController?.videoLifecycleCallbacks = videoLifecycleCallbacks
+      nativeAd.setOnPaidEventListener { adValue ->
+        val revenueData = Arguments.createMap()
+        revenueData.putDouble("value", 1e-6 * adValue.valueMicros)
+        revenueData.putInt("precision", adValue.precisionType)
+        revenueData.putString("currency", adValue.currencyCode)
+        emitAdEvent("paid", revenueData)
+      }
+    }
+
+    fun bind() {
+      if (boundAt == 0L) {
+        boundAt = SystemClock.elapsedRealtime()
+      }
+      bindCount.incrementAndGet()
+    }
+
+    fun unbind() {
+      bindCount.decrementAndGet()
+    }
+
+    fun onImpression() {
+      hasImpression = true
+      emitAdEvent("impression")
+    }
+
+    fun destroy() {
+      nativeAd?.destroy()
+      nativeAd = null
+    }
+
+    fun emitAdEvent(type: String, eventData: ReadableMap? = null) {
+      val nativeAd = this.nativeAd ?: return
+      val payload = Arguments.createMap()
+      if (eventData != null) {
+        payload.merge(eventData)
+      }
+      payload.putString("responseId", nativeAd.responseInfo?.responseId)
+      payload.putString("type", type)
+      onAdEvent?.invoke(payload)
+    }
+  }
+
+  companion object {
+    const val NAME = "RNGoogleMobileAdsNativeModule"
+
+    // Reason of the evicted event of ads taken back from a list placement.
+    private const val REASON_RECYCLED = "recycled"
+
+    private const val CACHE_TTL_KEY = "android_native_ad_cache_ttl"
+    private const val CACHE_MAX_SIZE_KEY = "android_native_ad_cache_max_size"
+    private const val CACHE_MAX_MEGABYTES_KEY = "android_native_ad_cache_max_megabytes"
+
+    // Native ads should be shown within an hour of loading.
+    private const val NATIVE_AD_EXPIRY_MILLIS = 60 * 60 * 1000L
+
+    // Rough footprint of a video player with its buffers, which the SDK does not expose.
+    private const val VIDEO_WEIGHT_BYTES = 4 * 1024 * 1024L
+
+    private val nativeAdTtlMillis by lazy {
+      ReactNativeJSON.getSharedInstance().getLongValue(CACHE_TTL_KEY, NATIVE_AD_EXPIRY_MILLIS)
+    }
+
+    /**
+     * Estimates how much memory [nativeAd] holds on to from its decoded images and video.
+     */
+    private fun estimateWeightBytes(nativeAd: NativeAd): Long {
+      val images = listOfNotNull(nativeAd.icon) + nativeAd.images
+      var weightBytes = images.sumOf { image ->
+        when (val drawable = image.drawable) {
+          is BitmapDrawable -> drawable.bitmap?.allocationByteCount?.toLong() ?: 0L
+          null -> 0L
+          else ->
+            maxOf(0, drawable.intrinsicWidth).toLong() * maxOf(0, drawable.intrinsicHeight) * 4
+        }
+      }
+      if (nativeAd.mediaContent?.hasVideoContent() == true) {
+        weightBytes += VIDEO_WEIGHT_BYTES
+      }
+      return weightBytes
+    }
+
+    private fun getReturnUrlsForImageAssets(requestOptions: ReadableMap): Boolean {
+      return requestOptions.hasKey("returnUrlsForImageAssets") &&
+        requestOptions.getBoolean("returnUrlsForImageAssets")
+    }
+
+    /**
+     * Downloads the icon and images of [nativeAd] into Fresco's disk cache, the same way
+     * `Image.prefetch` does, so `<Image>` can show them without fetching them itself.
+     */
+    private fun prefetchImageAssets(nativeAd: NativeAd) {
+      if (!Fresco.hasBeenInitialized()) {
+        return
+      }
+      val imagePipeline = Fresco.getImagePipeline()
+      (listOfNotNull(nativeAd.icon) + nativeAd.images).mapNotNull { it.uri }.forEach {
+        imagePipeline.prefetchToDiskCache(ImageRequest.fromUri(it), null)
+      }
+    }
+
+    private fun buildNativeAdOptions(requestOptions: ReadableMap): NativeAdOptions {
       val mediaAspectRatio = if (requestOptions.hasKey("aspectRatio")) {
         when (requestOptions.getInt("aspectRatio")) {
           1 -> MediaAspectRatio.ANY
@@ -172,50 +1043,12 @@ class ReactNativeGoogleMobileAdsNativeModule(
       val videoOptions = VideoOptions.Builder()
         .setStartMuted(startVideoMuted)
         .build()
-      val nativeAdOptions = NativeAdOptions.Builder()
-//      .setReturnUrlsForImageAssets(true)
+      return NativeAdOptions.Builder()
+        .setReturnUrlsForImageAssets(getReturnUrlsForImageAssets(requestOptions))
         .setMediaAspectRatio(mediaAspectRatio)
         .setAdChoicesPlacement(adChoicesPlacement)
         .setVideoOptions(videoOptions)
         .build()
-      val adLoader = AdLoader.Builder(reactApplicationContext, adUnitId)
-        .withNativeAdOptions(nativeAdOptions)
-        .withAdListener(adListener)
-        .forNativeAd { nativeAd ->
-          this.nativeAd = nativeAd
-          nativeAd.mediaContent?.videoController?.videoLifecycleCallbacks = videoLifecycleCallbacks
-          nativeAd.setOnPaidEventListener { adValue ->
-            val revenueData = Arguments.createMap()
-            revenueData.putDouble("value", 1e-6 * adValue.valueMicros)
-            revenueData.putInt("precision", adValue.precisionType)
-            revenueData.putString("currency", adValue.currencyCode)
-            emitAdEvent("paid", revenueData)
-          }
-          loadedListener.onNativeAdLoaded(nativeAd)
-        }
-        .build()
-      val adRequest = ReactNativeGoogleMobileAdsCommon.buildAdRequest(requestOptions)
-      adLoader.loadAd(adRequest)
-    }
-
-    fun destroy() {
-      nativeAd?.destroy()
-      nativeAd = null
-    }
-
-    private fun emitAdEvent(type: String, eventData: ReadableMap? = null) {
-      val nativeAd = this.nativeAd ?: return
-      val payload = Arguments.createMap()
-      if (eventData != null) {
-        payload.merge(eventData)
-      }
-      payload.putString("responseId", nativeAd.responseInfo?.responseId)
-      payload.putString("type", type)
-      this@ReactNativeGoogleMobileAdsNativeModule.emitOnAdEvent(payload)
     }
   }
-
-  companion object {
-    const val NAME = "RNGoogleMobileAdsNativeModule"
-  }
 }
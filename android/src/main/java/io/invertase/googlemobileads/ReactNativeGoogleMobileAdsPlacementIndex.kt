@@ -0,0 +1,100 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.util.SparseArray
+
+/**
+ * Maps the positions of a list to ad slots and keeps track of the value assigned to each slot.
+ *
+ * The first ad goes to [firstPosition], and each following one after [spacing] content items,
+ * up to [maxAds] ads (0 for no limit). Positions count ads and content items alike. Slots are
+ * computed arithmetically, so only slots that currently have a value take up memory.
+ *
+ * Not thread safe.
+ */
+class ReactNativeGoogleMobileAdsPlacementIndex<T : Any>(
+  private val firstPosition: Int,
+  spacing: Int,
+  private val maxAds: Int
+) {
+  private val stride = spacing + 1
+  private val values = SparseArray<T>()
+
+  /**
+   * Returns the slot shown at [position], or -1 if it holds a content item.
+   */
+  fun getSlot(position: Int): Int {
+    if (position < firstPosition || (position - firstPosition) % stride != 0) {
+      return -1
+    }
+    val slot = (position - firstPosition) / stride
+    return if (maxAds > 0 && slot >= maxAds) -1 else slot
+  }
+
+  fun getPosition(slot: Int): Int {
+    return firstPosition + slot * stride
+  }
+
+  /**
+   * Returns the slots whose positions lie within [fromPosition] and [toPosition], inclusive.
+   */
+  fun getSlots(fromPosition: Int, toPosition: Int): IntRange {
+    if (toPosition < firstPosition) {
+      return IntRange.EMPTY
+    }
+    val firstSlot = (maxOf(fromPosition, firstPosition) - firstPosition + stride - 1) / stride
+    var lastSlot = (toPosition - firstPosition) / stride
+    if (maxAds > 0) {
+      lastSlot = minOf(lastSlot, maxAds - 1)
+    }
+    return firstSlot..lastSlot
+  }
+
+  operator fun get(slot: Int): T? {
+    return values.get(slot)
+  }
+
+  operator fun set(slot: Int, value: T) {
+    values.put(slot, value)
+  }
+
+  fun remove(slot: Int) {
+    values.remove(slot)
+  }
+
+  /**
+   * Removes the values of all slots outside of [slots] and returns them.
+   */
+  fun removeOutside(slots: IntRange): List<T> {
+    val removed = ArrayList<T>()
+    for (i in values.size() - 1 downTo 0) {
+      if (values.keyAt(i) !in slots) {
+        removed.add(values.valueAt(i))
+        values.removeAt(i)
+      }
+    }
+    return removed
+  }
+
+  fun removeAll(): List<T> {
+    val removed = (0 until values.size()).map { values.valueAt(it) }
+    values.clear()
+    return removed
+  }
+}
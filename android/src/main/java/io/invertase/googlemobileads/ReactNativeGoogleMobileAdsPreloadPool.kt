@@ -0,0 +1,177 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.content.Context
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import android.util.Log
+import com.facebook.react.bridge.ReadableMap
+import com.google.android.gms.ads.AdLoadCallback
+import com.google.android.gms.ads.LoadAdError
+import com.google.android.gms.ads.admanager.AdManagerAdRequest
+import io.invertase.googlemobileads.common.ReactNativeApp
+import java.util.concurrent.ExecutorService
+
+/**
+ * Keeps up to [depth] loaded full-screen ads ready for a single ad unit.
+ *
+ * Refills are prepared on the given executor and only the SDK load call is posted to the main
+ * thread. Ads are dropped shortly before the SDK would consider them expired.
+ */
+class ReactNativeGoogleMobileAdsPreloadPool<T>(
+  private val adUnitId: String,
+  private val expiryMillis: Long,
+  private val executor: ExecutorService,
+  private val loader: (Context, String, AdManagerAdRequest, AdLoadCallback<T>) -> Unit
+) {
+  /**
+   * A pooled ad and when it was loaded, as an elapsedRealtime timestamp.
+   */
+  class Entry<T>(val ad: T & Any, val loadedAt: Long)
+
+  private val handler = Handler(Looper.getMainLooper())
+  private val entries = ArrayDeque<Entry<T>>()
+  private var adRequestOptions: ReadableMap? = null
+  private var requestFingerprint: String? = null
+  private var depth = 0
+  private var inFlight = 0
+  private var generation = 0
+
+  @Synchronized
+  fun configure(adRequestOptions: ReadableMap, depth: Int) {
+    val fingerprint = ReactNativeGoogleMobileAdsAdStore.getRequestFingerprint(adRequestOptions)
+    if (requestFingerprint != fingerprint) {
+      // Ads already in the pool were requested with the previous options, start over.
+      entries.clear()
+      generation++
+      inFlight = 0
+    }
+    this.adRequestOptions = adRequestOptions
+    requestFingerprint = fingerprint
+    this.depth = depth
+    while (entries.size > depth) {
+      entries.removeLast()
+    }
+    refill()
+  }
+
+  /**
+   * Takes the oldest ready ad out of the pool, or returns null when none is available.
+   * Ads older than [maxAgeMillis] are dropped first. A background refill is started in both cases.
+   *
+   * Pooled ads were requested with the pool's options, so none is handed out unless
+   * [requestFingerprint] (see [ReactNativeGoogleMobileAdsAdStore.getRequestFingerprint]) matches
+   * them: a load with other targeting or consent options must go to the network.
+   */
+  @Synchronized
+  fun acquire(requestFingerprint: String, maxAgeMillis: Long = expiryMillis): Entry<T>? {
+    if (requestFingerprint != this.requestFingerprint) {
+      return null
+    }
+    evictExpired(minOf(maxAgeMillis, expiryMillis))
+    val entry = entries.removeFirstOrNull()
+    refill()
+    return entry
+  }
+
+  @Synchronized
+  fun size(): Int {
+    evictExpired()
+    return entries.size
+  }
+
+  @Synchronized
+  fun refill() {
+    val options = adRequestOptions ?: return
+    val missing = depth - entries.size - inFlight
+    if (missing <= 0) {
+      return
+    }
+    val context = ReactNativeApp.getApplicationContext() ?: return
+    val loadGeneration = generation
+    inFlight += missing
+    repeat(missing) {
+      executor.execute {
+        val adRequest = ReactNativeGoogleMobileAdsCommon.buildAdRequest(options)
+        handler.post {
+          loader(context, adUnitId, adRequest, PoolLoadCallback(loadGeneration))
+        }
+      }
+    }
+  }
+
+  @Synchronized
+  fun clear() {
+    handler.removeCallbacksAndMessages(null)
+    entries.clear()
+    adRequestOptions = null
+    requestFingerprint = null
+    depth = 0
+    inFlight = 0
+    generation++
+  }
+
+  private fun evictExpired(maxAgeMillis: Long = expiryMillis) {
+    val now = SystemClock.elapsedRealtime()
+    entries.removeAll { now - it.loadedAt >= maxAgeMillis }
+  }
+
+  @Synchronized
+  private fun onLoaded(loadGeneration: Int, ad: T & Any) {
+    if (loadGeneration != generation) {
+      return
+    }
+    inFlight--
+    entries.addLast(Entry(ad, SystemClock.elapsedRealtime()))
+    handler.postDelayed({
+      synchronized(this) {
+        evictExpired()
+        refill()
+      }
+    }, expiryMillis)
+  }
+
+  @Synchronized
+  private fun onFailedToLoad(loadGeneration: Int, loadAdError: LoadAdError) {
+    if (loadGeneration != generation) {
+      return
+    }
+    inFlight--
+    // Failed refills are retried on the next acquire or show rather than immediately, so a
+    // no-fill ad unit is not hammered with requests.
+    Log.w("RNGoogleMobileAds", "Preload for $adUnitId failed: ${loadAdError.message}")
+  }
+
+  private inner class PoolLoadCallback(private val loadGeneration: Int) : AdLoadCallback<T>() {
+    override fun onAdLoaded(ad: T & Any) {
+      onLoaded(loadGeneration, ad)
+    }
+
+    override fun onAdFailedToLoad(loadAdError: LoadAdError) {
+      onFailedToLoad(loadGeneration, loadAdError)
+    }
+  }
+
+  companion object {
+    // The SDK expires interstitial and rewarded ads after one hour and app open ads after four,
+    // keep a few minutes of headroom so an ad handed out is never about to go stale.
+    const val EXPIRY_HEADROOM_MILLIS = 5 * 60 * 1000L
+  }
+}
@@ -0,0 +1,160 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import android.content.Context
+import android.util.Log
+import com.facebook.react.bridge.JavaOnlyMap
+import com.facebook.react.bridge.ReadableMap
+import com.google.android.gms.ads.AdLoadCallback
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.admanager.AdManagerAdRequest
+import io.invertase.googlemobileads.common.ReactNativeJSON
+import io.invertase.googlemobileads.common.SharedUtils
+import io.invertase.googlemobileads.common.TaskExecutorService
+import org.json.JSONException
+import org.json.JSONObject
+
+/**
+ * Process-wide owner of the full-screen preload pools.
+ *
+ * Pools live as long as the process rather than a React instance, so they can be filled from
+ * app.json before JS starts and keep their ads across JS reloads.
+ */
+object ReactNativeGoogleMobileAdsPreloader {
+  private const val TAG = "RNGoogleMobileAds"
+  private const val PRELOAD_KEY = "android_preload"
+
+  private val executorService = TaskExecutorService("RNGoogleMobileAdsPreloader")
+  private val pools = HashMap<String, ReactNativeGoogleMobileAdsPreloadPool<*>>()
+
+  private fun getPoolKey(eventName: String, adUnitId: String): String {
+    return "$eventName:$adUnitId"
+  }
+
+  fun <T> configure(
+    eventName: String,
+    adUnitId: String,
+    adExpiryMillis: Long,
+    loader: (Context, String, AdManagerAdRequest, AdLoadCallback<T>) -> Unit,
+    adRequestOptions: ReadableMap,
+    depth: Int
+  ) {
+    val key = getPoolKey(eventName, adUnitId)
+    synchronized(pools) {
+      if (depth <= 0) {
+        pools.remove(key)?.clear()
+        return
+      }
+      @Suppress("UNCHECKED_CAST")
+      val pool = pools.getOrPut(key) {
+        ReactNativeGoogleMobileAdsPreloadPool(
+          adUnitId,
+          adExpiryMillis - ReactNativeGoogleMobileAdsPreloadPool.EXPIRY_HEADROOM_MILLIS,
+          executorService.executor,
+          loader
+        )
+      } as ReactNativeGoogleMobileAdsPreloadPool<T>
+      pool.configure(adRequestOptions, depth)
+    }
+  }
+
+  fun <T> getPool(eventName: String, adUnitId: String): ReactNativeGoogleMobileAdsPreloadPool<T>? {
+    synchronized(pools) {
+      @Suppress("UNCHECKED_CAST")
+      return pools[getPoolKey(eventName, adUnitId)] as ReactNativeGoogleMobileAdsPreloadPool<T>?
+    }
+  }
+
+  /**
+   * Starts the SDK and the pools declared in the `android_preload` section of app.json. Called
+   * once at process start, before the React instance exists.
+   */
+  fun preloadFromConfig(context: Context) {
+    val entries = ReactNativeJSON.getSharedInstance().getObjectArrayValue(PRELOAD_KEY)
+    if (entries.isEmpty()) {
+      return
+    }
+
+    executorService.executor.execute {
+      MobileAds.initialize(context) {}
+    }
+
+    // With android_wait_for_consent set, the pools only start filling once ads may be requested.
+    ReactNativeGoogleMobileAdsConsentGate.await(context) { canRequestAds ->
+      if (canRequestAds) {
+        configureFromConfig(entries)
+      }
+    }
+  }
+
+  private fun configureFromConfig(entries: List<JSONObject>) {
+    for (entry in entries) {
+      val adUnitId = entry.optString("adUnitId")
+      val format = entry.optString("format")
+      val depth = entry.optInt("depth", 1)
+      if (adUnitId.isEmpty()) {
+        Log.w(TAG, "Ignoring $PRELOAD_KEY entry without an adUnitId")
+        continue
+      }
+      val adRequestOptions = try {
+        entry.optJSONObject("requestOptions")?.let { SharedUtils.jsonObjectToReadableMap(it) }
+          ?: JavaOnlyMap()
+      } catch (e: JSONException) {
+        Log.w(TAG, "Ignoring $PRELOAD_KEY entry for $adUnitId with invalid requestOptions", e)
+        continue
+      }
+
+      when (format) {
+        "app_open" -> configure(
+          ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_APP_OPEN,
+          adUnitId,
+          ReactNativeGoogleMobileAdsAppOpenModule.AD_EXPIRY_MILLIS,
+          ReactNativeGoogleMobileAdsAppOpenModule.Companion::loadAd,
+          adRequestOptions,
+          depth
+        )
+        "interstitial" -> configure(
+          ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_INTERSTITIAL,
+          adUnitId,
+          ReactNativeGoogleMobileAdsFullScreenAdModule.DEFAULT_AD_EXPIRY_MILLIS,
+          ReactNativeGoogleMobileAdsInterstitialModule.Companion::loadAd,
+          adRequestOptions,
+          depth
+        )
+        "rewarded" -> configure(
+          ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_REWARDED,
+          adUnitId,
+          ReactNativeGoogleMobileAdsFullScreenAdModule.DEFAULT_AD_EXPIRY_MILLIS,
+          ReactNativeGoogleMobileAdsRewardedModule.Companion::loadAd,
+          adRequestOptions,
+          depth
+        )
+        "rewarded_interstitial" -> configure(
+          ReactNativeGoogleMobileAdsEvent.GOOGLE_MOBILE_ADS_EVENT_REWARDED_INTERSTITIAL,
+          adUnitId,
+          ReactNativeGoogleMobileAdsFullScreenAdModule.DEFAULT_AD_EXPIRY_MILLIS,
+          ReactNativeGoogleMobileAdsRewardedInterstitialModule.Companion::loadAd,
+          adRequestOptions,
+          depth
+        )
+        else -> Log.w(TAG, "Ignoring $PRELOAD_KEY entry for $adUnitId with unknown format '$format'")
+      }
+    }
+  }
+}
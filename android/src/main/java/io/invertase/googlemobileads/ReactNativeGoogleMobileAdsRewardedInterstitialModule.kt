@@ -17,7 +17,7 @@ package io.invertase.googlemobileads
  *
  */
 
-import android.app.Activity
+import android.content.Context
 import com.facebook.react.bridge.Promise
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactMethod
@@ -47,28 +47,42 @@ class ReactNativeGoogleMobileAdsRewardedInterstitialModule(reactContext: ReactAp
     show(requestId, adUnitId, showOptions, promise)
   }
 
+  @ReactMethod
+  fun rewardedInterstitialPreload(adUnitId: String, adRequestOptions: ReadableMap, depth: Int) {
+    preload(adUnitId, adRequestOptions, depth)
+  }
+
   override fun loadAd(
-    activity: Activity,
+    context: Context,
     adUnitId: String,
     adRequest: AdManagerAdRequest,
     adLoadCallback: AdLoadCallback<RewardedInterstitialAd>
   ) {
-    RewardedInterstitialAd.load(
-      activity,
-      adUnitId,
-      adRequest,
-      object :
-        RewardedInterstitialAdLoadCallback() {
-        override fun onAdLoaded(ad: RewardedInterstitialAd) {
-          adLoadCallback.onAdLoaded(ad)
-        }
-        override fun onAdFailedToLoad(error: LoadAdError) {
-          adLoadCallback.onAdFailedToLoad(error)
-        }
-      })
+    Companion.loadAd(context, adUnitId, adRequest, adLoadCallback)
   }
 
   companion object {
     const val NAME = "RNGoogleMobileAdsRewardedInterstitialModule"
+
+    fun loadAd(
+      context: Context,
+      adUnitId: String,
+      adRequest: AdManagerAdRequest,
+      adLoadCallback: AdLoadCallback<RewardedInterstitialAd>
+    ) {
+      RewardedInterstitialAd.load(
+        context,
+        adUnitId,
+        adRequest,
+        object :
+          RewardedInterstitialAdLoadCallback() {
+          override fun onAdLoaded(ad: RewardedInterstitialAd) {
+            adLoadCallback.onAdLoaded(ad)
+          }
+          override fun onAdFailedToLoad(error: LoadAdError) {
+            adLoadCallback.onAdFailedToLoad(error)
+          }
+        })
+    }
   }
 }
@@ -17,7 +17,7 @@ package io.invertase.googlemobileads
  *
  */
 
-import android.app.Activity
+import android.content.Context
 import com.facebook.react.bridge.Promise
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactMethod
@@ -47,28 +47,42 @@ class ReactNativeGoogleMobileAdsRewardedModule(reactContext: ReactApplicationCon
     show(requestId, adUnitId, showOptions, promise)
   }
 
+  @ReactMethod
+  fun rewardedPreload(adUnitId: String, adRequestOptions: ReadableMap, depth: Int) {
+    preload(adUnitId, adRequestOptions, depth)
+  }
+
   override fun loadAd(
-    activity: Activity,
+    context: Context,
     adUnitId: String,
     adRequest: AdManagerAdRequest,
     adLoadCallback: AdLoadCallback<RewardedAd>
   ) {
-    RewardedAd.load(
-      activity,
-      adUnitId,
-      adRequest,
-      object :
-        RewardedAdLoadCallback() {
-        override fun onAdLoaded(ad: RewardedAd) {
-          adLoadCallback.onAdLoaded(ad)
-        }
-        override fun onAdFailedToLoad(error: LoadAdError) {
-          adLoadCallback.onAdFailedToLoad(error)
-        }
-      })
+    Companion.loadAd(context, adUnitId, adRequest, adLoadCallback)
   }
 
   companion object {
     const val NAME = "RNGoogleMobileAdsRewardedModule"
+
+    fun loadAd(
+      context: Context,
+      adUnitId: String,
+      adRequest: AdManagerAdRequest,
+      adLoadCallback: AdLoadCallback<RewardedAd>
+    ) {
+      RewardedAd.load(
+        context,
+        adUnitId,
+        adRequest,
+        object :
+          RewardedAdLoadCallback() {
+          override fun onAdLoaded(ad: RewardedAd) {
+            adLoadCallback.onAdLoaded(ad)
+          }
+          override fun onAdFailedToLoad(error: LoadAdError) {
+            adLoadCallback.onAdFailedToLoad(error)
+          }
+        })
+    }
   }
 }
@@ -0,0 +1,233 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import java.util.BitSet
+
+/**
+ * A decoded IAB TCF v2 TC string: the core segment and, if present, the publisher TC segment.
+ *
+ * Purposes, special features and vendors are kept in bitsets indexed by their IDs, so every
+ * lookup is constant time.
+ *
+ * https://github.com/InteractiveAdvertisingBureau/GDPR-Transparency-and-Consent-Framework/blob/master/TCFv2/IAB%20Tech%20Lab%20-%20Consent%20string%20and%20vendor%20list%20formats%20v2.md
+ */
+class ReactNativeGoogleMobileAdsTCString private constructor(reader: BitReader) {
+  val version = reader.readInt(6)
+  val created = reader.readLong(36) * 100
+  val lastUpdated = reader.readLong(36) * 100
+  val cmpId = reader.readInt(12)
+  val cmpVersion = reader.readInt(12)
+  val consentScreen = reader.readInt(6)
+  val consentLanguage = reader.readLetters(2)
+  val vendorListVersion = reader.readInt(12)
+  val policyVersion = reader.readInt(6)
+  val isServiceSpecific = reader.readBoolean()
+  val useNonStandardTexts = reader.readBoolean()
+  val specialFeatureOptins = reader.readBitField(12)
+  val purposeConsents = reader.readBitField(24)
+  val purposeLegitimateInterests = reader.readBitField(24)
+  val purposeOneTreatment = reader.readBoolean()
+  val publisherCountryCode = reader.readLetters(2)
+  val vendorConsents = reader.readVendors()
+  val vendorLegitimateInterests = reader.readVendors()
+
+  // Vendors restricted by the publisher, keyed by purpose ID and restriction type.
+  private val restrictions = HashMap<Int, BitSet>().also {
+    repeat(reader.readInt(12)) { _ ->
+      val purposeId = reader.readInt(6)
+      val restrictionType = reader.readInt(2)
+      it[getRestrictionKey(purposeId, restrictionType)] = reader.readVendorRanges()
+    }
+  }
+
+  var publisherConsents = BitSet()
+    private set
+  var publisherLegitimateInterests = BitSet()
+    private set
+  var customPurposeConsents = BitSet()
+    private set
+  var customPurposeLegitimateInterests = BitSet()
+    private set
+
+  private fun readPublisherSegment(reader: BitReader) {
+    publisherConsents = reader.readBitField(24)
+    publisherLegitimateInterests = reader.readBitField(24)
+    val customPurposes = reader.readInt(6)
+    customPurposeConsents = reader.readBitField(customPurposes)
+    customPurposeLegitimateInterests = reader.readBitField(customPurposes)
+  }
+
+  /**
+   * Whether the publisher restricted [vendorId] for [purposeId] with [restrictionType].
+   */
+  fun isRestricted(vendorId: Int, purposeId: Int, restrictionType: Int): Boolean {
+    if (vendorId < 1 || purposeId < 1) {
+      return false
+    }
+    return restrictions[getRestrictionKey(purposeId, restrictionType)]?.get(vendorId) == true
+  }
+
+  /**
+   * Whether [vendorId] may process data for [purposeId] based on consent: the user consented to
+   * both and the publisher did not disallow it or require legitimate interest instead.
+   */
+  fun hasVendorPurposeConsent(vendorId: Int, purposeId: Int): Boolean {
+    if (vendorId < 1 || purposeId < 1) {
+      return false
+    }
+    return purposeConsents[purposeId] &&
+      vendorConsents[vendorId] &&
+      !isRestricted(vendorId, purposeId, RESTRICTION_NOT_ALLOWED) &&
+      !isRestricted(vendorId, purposeId, RESTRICTION_REQUIRE_LEGITIMATE_INTEREST)
+  }
+
+  /**
+   * Whether [vendorId] may process data for [purposeId] based on legitimate interest: the user
+   * did not object to either and the publisher did not disallow it or require consent instead.
+   * Purpose 1 can never be based on legitimate interest.
+   */
+  fun hasVendorPurposeLegitimateInterest(vendorId: Int, purposeId: Int): Boolean {
+    if (vendorId < 1 || purposeId < 2) {
+      return false
+    }
+    return purposeLegitimateInterests[purposeId] &&
+      vendorLegitimateInterests[vendorId] &&
+      !isRestricted(vendorId, purposeId, RESTRICTION_NOT_ALLOWED) &&
+      !isRestricted(vendorId, purposeId, RESTRICTION_REQUIRE_CONSENT)
+  }
+
+  /**
+   * Reads a TC string bit by bit from its base64url characters, without padding.
+   */
+  private class BitReader(private val segment: String) {
+    private var position = 0
+
+    fun readLong(bits: Int): Long {
+      var value = 0L
+      repeat(bits) {
+        value = (value shl 1) or (if (readBit()) 1L else 0L)
+      }
+      return value
+    }
+
+    fun readInt(bits: Int): Int {
+      return readLong(bits).toInt()
+    }
+
+    fun readBoolean(): Boolean {
+      return readBit()
+    }
+
+    fun readLetters(count: Int): String {
+      return String(CharArray(count) { 'A' + readInt(6) })
+    }
+
+    /**
+     * Reads [bits] flags, the first one for ID 1.
+     */
+    fun readBitField(bits: Int): BitSet {
+      val bitSet = BitSet(bits + 1)
+      for (id in 1..bits) {
+        if (readBit()) {
+          bitSet.set(id)
+        }
+      }
+      return bitSet
+    }
+
+    fun readVendors(): BitSet {
+      val maxVendorId = readInt(16)
+      return if (readBoolean()) readVendorRanges() else readBitField(maxVendorId)
+    }
+
+    fun readVendorRanges(): BitSet {
+      val bitSet = BitSet()
+      repeat(readInt(12)) {
+        val isRange = readBoolean()
+        val startVendorId = readInt(16)
+        val endVendorId = if (isRange) readInt(16) else startVendorId
+        if (endVendorId >= startVendorId) {
+          bitSet.set(startVendorId, endVendorId + 1)
+        }
+      }
+      return bitSet
+    }
+
+    private fun readBit(): Boolean {
+      val index = position / 6
+      require(index < segment.length) { "TC string segment ended unexpectedly." }
+      val value = BASE64_URL_ALPHABET.indexOf(segment[index])
+      require(value >= 0) { "Invalid character in TC string." }
+      val bit = (value shr (5 - position % 6)) and 1
+      position++
+      return bit == 1
+    }
+  }
+
+  companion object {
+    const val RESTRICTION_NOT_ALLOWED = 0
+    const val RESTRICTION_REQUIRE_CONSENT = 1
+    const val RESTRICTION_REQUIRE_LEGITIMATE_INTEREST = 2
+
+    private const val BASE64_URL_ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+
+    private const val SEGMENT_TYPE_PUBLISHER_TC = 3
+
+    // The ID of the EU TCF v2 section of a GPP string.
+    private const val GPP_SECTION_TCF_EU_V2 = "2"
+
+    private fun getRestrictionKey(purposeId: Int, restrictionType: Int): Int {
+      return purposeId * 4 + restrictionType
+    }
+
+    /**
+     * Decodes [tcString], or returns null if it is not a valid TCF v2 string.
+     */
+    fun decode(tcString: String): ReactNativeGoogleMobileAdsTCString? {
+      return try {
+        val segments = tcString.split('.')
+        val tcData = ReactNativeGoogleMobileAdsTCString(BitReader(segments[0]))
+        if (tcData.version != 2) {
+          return null
+        }
+        for (segment in segments.drop(1)) {
+          val reader = BitReader(segment)
+          if (reader.readInt(3) == SEGMENT_TYPE_PUBLISHER_TC) {
+            tcData.readPublisherSegment(reader)
+          }
+        }
+        tcData
+      } catch (e: IllegalArgumentException) {
+        null
+      }
+    }
+
+    /**
+     * Decodes the EU TCF v2 section of [gppString], whose sections follow its header in the order
+     * of [sectionIds] (the `IABGPP_GppSID` value, e.g. `2_7`). Returns null if there is no valid
+     * such section.
+     */
+    fun decodeGpp(gppString: String, sectionIds: String): ReactNativeGoogleMobileAdsTCString? {
+      val sections = gppString.split('~').drop(1)
+      val index = sectionIds.split('_').indexOf(GPP_SECTION_TCF_EU_V2)
+      return sections.getOrNull(index)?.let { decode(it) }
+    }
+  }
+}
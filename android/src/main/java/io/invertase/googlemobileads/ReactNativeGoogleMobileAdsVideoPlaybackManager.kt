@@ -0,0 +1,100 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import io.invertase.googlemobileads.common.ReactNativeJSON
+import java.util.Collections
+import java.util.WeakHashMap
+
+/**
+ * Decides which native ad videos may play, so a feed full of video ads does not keep decoding
+ * the ones that scrolled away.
+ *
+ * Only the most visible media views, at most `android_native_ad_max_playing_videos` of them
+ * across the app, are allowed to play. The others are paused through their VideoController and
+ * resumed once they are back within the budget.
+ *
+ * Must only be used from the main thread.
+ */
+object ReactNativeGoogleMobileAdsVideoPlaybackManager {
+  private const val MAX_PLAYING_KEY = "android_native_ad_max_playing_videos"
+
+  // A video needs at least half of its view on screen to be allowed to play.
+  private const val MIN_VISIBLE_FRACTION = 0.5f
+
+  private val maxPlaying by lazy {
+    ReactNativeJSON.getSharedInstance().getIntValue(MAX_PLAYING_KEY, 1)
+  }
+
+  private val views = LinkedHashSet<ReactNativeGoogleMobileAdsMediaView>()
+  private val pausedViews =
+    Collections.newSetFromMap(WeakHashMap<ReactNativeGoogleMobileAdsMediaView, Boolean>())
+
+  /**
+   * Called when [view] was attached, got new media content or its visible fraction changed.
+   */
+  fun update(view: ReactNativeGoogleMobileAdsMediaView) {
+    views.add(view)
+    rebalance()
+  }
+
+  /**
+   * Called when [view] was detached. Its video is paused and resumes if it comes back.
+   */
+  fun remove(view: ReactNativeGoogleMobileAdsMediaView) {
+    if (views.remove(view)) {
+      pause(view)
+      rebalance()
+    }
+  }
+
+  /**
+   * Called when [view] is about to show another ad, whose video starts out of the budget's hands.
+   */
+  fun reset(view: ReactNativeGoogleMobileAdsMediaView) {
+    views.remove(view)
+    pausedViews.remove(view)
+    rebalance()
+  }
+
+  private fun rebalance() {
+    val allowed = views
+      .filter { it.hasVideoContent && it.visibleFraction >= MIN_VISIBLE_FRACTION }
+      .sortedByDescending { it.visibleFraction }
+      .take(maxPlaying)
+      .toSet()
+    for (view in views) {
+      if (!view.hasVideoContent) {
+        continue
+      }
+      if (view in allowed) {
+        if (pausedViews.remove(view)) {
+          view.mediaContent?.videoController?.play()
+        }
+      } else {
+        pause(view)
+      }
+    }
+  }
+
+  private fun pause(view: ReactNativeGoogleMobileAdsMediaView) {
+    if (view.hasVideoContent && pausedViews.add(view)) {
+      view.mediaContent?.videoController?.pause()
+    }
+  }
+}
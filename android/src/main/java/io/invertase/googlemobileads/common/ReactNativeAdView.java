@@ -21,6 +21,7 @@ public class ReactNativeAdView extends FrameLayout {
   private float maxAdHeight;
   private float adWidth;
   private String unitId;
+  private String slotId;
   private boolean manualImpressionsEnabled;
   private boolean propsChanged;
   private boolean isFluid;
@@ -100,6 +101,14 @@ public class ReactNativeAdView extends FrameLayout {
     return this.unitId;
   }
 
+  public void setSlotId(String slotId) {
+    this.slotId = slotId;
+  }
+
+  public String getSlotId() {
+    return this.slotId;
+  }
+
   public void setManualImpressionsEnabled(boolean manualImpressionsEnabled) {
     this.manualImpressionsEnabled = manualImpressionsEnabled;
   }
@@ -85,6 +85,23 @@ public class ReactNativeJSON {
     return result;
   }
 
+  public ArrayList<JSONObject> getObjectArrayValue(String key) {
+    ArrayList<JSONObject> result = new ArrayList<JSONObject>();
+    if (jsonObject == null) return result;
+
+    JSONArray array = jsonObject.optJSONArray(key);
+    if (array != null) {
+      for (int i = 0; i < array.length(); i++) {
+        JSONObject value = array.optJSONObject(i);
+        if (value != null) {
+          result.add(value);
+        }
+      }
+    }
+
+    return result;
+  }
+
   public String getRawJSON() {
     return BuildConfig.GOOGLE_MOBILE_ADS_JSON_RAW;
   }
@@ -287,6 +287,62 @@ public class SharedUtils {
     return writableArray;
   }
 
+  /**
+   * Unlike {@link #jsonObjectToWritableMap(JSONObject)} this does not need the React Native
+   * native libraries to be loaded, so it is safe to use before the React instance exists.
+   */
+  public static ReadableMap jsonObjectToReadableMap(JSONObject jsonObject) throws JSONException {
+    JavaOnlyMap map = new JavaOnlyMap();
+
+    Iterator<String> iterator = jsonObject.keys();
+    while (iterator.hasNext()) {
+      String key = iterator.next();
+      Object value = jsonObject.get(key);
+      if (value instanceof JSONObject) {
+        map.putMap(key, jsonObjectToReadableMap((JSONObject) value));
+      } else if (value instanceof JSONArray) {
+        map.putArray(key, jsonArrayToReadableArray((JSONArray) value));
+      } else if (value instanceof Boolean) {
+        map.putBoolean(key, (Boolean) value);
+      } else if (value instanceof Integer) {
+        map.putInt(key, (Integer) value);
+      } else if (value instanceof Number) {
+        map.putDouble(key, ((Number) value).doubleValue());
+      } else if (value instanceof String) {
+        map.putString(key, (String) value);
+      } else if (value == JSONObject.NULL) {
+        map.putNull(key);
+      } else {
+        map.putString(key, value.toString());
+      }
+    }
+    return map;
+  }
+
+  public static ReadableArray jsonArrayToReadableArray(JSONArray jsonArray) throws JSONException {
+    JavaOnlyArray array = new JavaOnlyArray();
+
+    for (int i = 0; i < jsonArray.length(); i++) {
+      Object value = jsonArray.get(i);
+      if (value instanceof Float || value instanceof Double) {
+        array.pushDouble(jsonArray.getDouble(i));
+      } else if (value instanceof Number) {
+        array.pushInt(jsonArray.getInt(i));
+      } else if (value instanceof Boolean) {
+        array.pushBoolean(jsonArray.getBoolean(i));
+      } else if (value instanceof String) {
+        array.pushString(jsonArray.getString(i));
+      } else if (value instanceof JSONObject) {
+        array.pushMap(jsonObjectToReadableMap(jsonArray.getJSONObject(i)));
+      } else if (value instanceof JSONArray) {
+        array.pushArray(jsonArrayToReadableArray(jsonArray.getJSONArray(i)));
+      } else if (value == JSONObject.NULL) {
+        array.pushNull();
+      }
+    }
+    return array;
+  }
+
   public static WritableMap mapToWritableMap(Map<String, Object> value) {
     WritableMap writableMap = Arguments.createMap();
 
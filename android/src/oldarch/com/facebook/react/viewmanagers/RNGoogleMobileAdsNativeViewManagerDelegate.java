@@ -31,6 +31,8 @@ public class RNGoogleMobileAdsNativeViewManagerDelegate<
     assert commandName != null;
     if (commandName.equals("registerAsset")) {
       mViewManager.registerAsset(view, args.getString(0), args.getInt(1));
+    } else if (commandName.equals("registerAssets")) {
+      mViewManager.registerAssets(view, args.getArray(0), args.getArray(1));
     }
   }
 }
@@ -2,9 +2,12 @@ package com.facebook.react.viewmanagers;
 
 import android.view.View;
 import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableArray;
 
 public interface RNGoogleMobileAdsNativeViewManagerInterface<T extends View> {
   void setResponseId(T view, @Nullable String responseId);
 
   void registerAsset(T view, String assetKey, int reactTag);
+
+  void registerAssets(T view, ReadableArray assetTypes, ReadableArray reactTags);
 }
@@ -3,11 +3,40 @@ package io.invertase.googlemobileads
 import com.facebook.react.bridge.Promise
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReactContextBaseJavaModule
+import com.facebook.react.bridge.ReadableArray
 import com.facebook.react.bridge.ReadableMap
+import com.facebook.react.bridge.WritableMap
 import com.facebook.react.modules.core.DeviceEventManagerModule
 
 abstract class NativeGoogleMobileAdsNativeModuleSpec(reactContext: ReactApplicationContext) : ReactContextBaseJavaModule(reactContext) {
   abstract fun load(adUnitId: String, requestOptions: ReadableMap, promise: Promise)
+  abstract fun loadMultiFormat(
+    adUnitId: String,
+    bannerSizes: ReadableArray,
+    requestOptions: ReadableMap,
+    promise: Promise
+  )
+  abstract fun loadMany(batchId: Double, adUnitId: String, count: Double, requestOptions: ReadableMap)
+  abstract fun configurePrefetch(
+    placement: String,
+    adUnitId: String,
+    lowWatermark: Double,
+    highWatermark: Double,
+    requestOptions: ReadableMap
+  )
+  abstract fun dequeue(placement: String): WritableMap?
+  abstract fun configurePlacement(
+    placement: String,
+    firstPosition: Double,
+    spacing: Double,
+    maxAds: Double,
+    preloadDistance: Double,
+    recycleDistance: Double
+  )
+  abstract fun removePlacement(placement: String)
+  abstract fun setVisibleRange(placement: String, firstPosition: Double, lastPosition: Double)
+  abstract fun getAdAtPosition(placement: String, position: Double): WritableMap?
+  abstract fun getPrefetchStats(promise: Promise)
   abstract fun destroy(responseId: String)
 
   fun emitOnAdEvent(params: ReadableMap) {
@@ -0,0 +1,95 @@
+package io.invertase.googlemobileads
+
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class ReactNativeGoogleMobileAdsNativeAdCacheTest {
+  private class Ad(val name: String) {
+    var isBound = false
+  }
+
+  private val evicted = ArrayList<Pair<String, String>>()
+
+  private fun createCache(maxSize: Int, ttlMillis: Long) =
+    ReactNativeGoogleMobileAdsNativeAdCache<Ad>(
+      maxSize,
+      Long.MAX_VALUE,
+      ttlMillis,
+      isEvictable = { !it.isBound },
+      onEvicted = { ad, reason -> evicted.add(ad.name to reason) }
+    )
+
+  @Test
+  fun keepsBoundAdsOverTheSizeLimit() {
+    val cache = createCache(maxSize = 1, ttlMillis = Long.MAX_VALUE / 2)
+    val bound = Ad("bound")
+    cache.put("bound", bound, 0, 0)
+    cache.bind("bound") { it.isBound = true }
+
+    cache.put("other", Ad("other"), 0, 0)
+
+    assertEquals(emptyList<Pair<String, String>>(), evicted)
+    assertNotNull(cache.bind("bound"))
+  }
+
+  @Test
+  fun evictsBoundThenUnboundAdsOverTheSizeLimit() {
+    val cache = createCache(maxSize = 1, ttlMillis = Long.MAX_VALUE / 2)
+    val ad = Ad("ad")
+    cache.put("ad", ad, 0, 0)
+    cache.bind("ad") { it.isBound = true }
+    cache.put("other", Ad("other"), 0, 0)
+
+    cache.bind("ad") { it.isBound = false }
+    cache.put("newest", Ad("newest"), 0, 0)
+
+    assertEquals(
+      listOf(
+        "other" to ReactNativeGoogleMobileAdsNativeAdCache.REASON_EVICTED,
+        "ad" to ReactNativeGoogleMobileAdsNativeAdCache.REASON_EVICTED
+      ),
+      evicted
+    )
+    assertNull(cache.bind("ad"))
+  }
+
+  @Test
+  fun expiresBoundThenUnboundAds() {
+    // With the clock at 0 in unit tests, a TTL of 0 makes every ad expired.
+    val cache = createCache(maxSize = 16, ttlMillis = 0)
+    val ad = Ad("ad")
+    ad.isBound = true
+    cache.put("ad", ad, 0, 0)
+    assertEquals(emptyList<Pair<String, String>>(), evicted)
+
+    ad.isBound = false
+    cache.put("other", Ad("other"), 0, 0)
+
+    assertEquals(
+      listOf(
+        "ad" to ReactNativeGoogleMobileAdsNativeAdCache.REASON_EXPIRED,
+        "other" to ReactNativeGoogleMobileAdsNativeAdCache.REASON_EXPIRED
+      ),
+      evicted.sortedBy { it.first }
+    )
+  }
+}
@@ -82,6 +82,34 @@ describe('googleAds InterstitialAd', function () {
       i.loaded.should.eql(true);
     });
 
+    it('gives each load sharing an in-flight load its own ad', async function () {
+      // Loads are only shared on Android, where ads in CI load too slowly to test this.
+      if (device.getPlatform() !== 'android' || global.isCI == true) {
+        return;
+      }
+
+      const firstSpy = sinon.spy();
+      const secondSpy = sinon.spy();
+
+      const first = InterstitialAd.createForAdRequest(googleAds.TestIds.INTERSTITIAL);
+      const second = InterstitialAd.createForAdRequest(googleAds.TestIds.INTERSTITIAL);
+
+      first.addAdEventListener(googleAds.AdEventType.LOADED, firstSpy);
+      const unsub = second.addAdEventListener(googleAds.AdEventType.LOADED, secondSpy);
+      first.load();
+      second.load();
+      await Utils.spyToBeCalledOnceAsync(firstSpy, 20000);
+      await Utils.spyToBeCalledOnceAsync(secondSpy, 20000);
+      unsub();
+
+      // Showing the shared ad loads a new one for the other request.
+      const reloadSpy = sinon.spy();
+      second.addAdEventListener(googleAds.AdEventType.LOADED, reloadSpy);
+      await first.show();
+      await Utils.spyToBeCalledOnceAsync(reloadSpy, 20000);
+      second.loaded.should.eql(true);
+    });
+
     it('errors with an invalid ad unit id', async function () {
       // Ads on Android in CI load a webview and a bunch of other things so slowly the app ANRs.
       if (device.getPlatform() === 'android' && global.isCI == true) {
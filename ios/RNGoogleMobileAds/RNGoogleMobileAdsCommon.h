@@ -63,6 +63,7 @@ extern NSString *const GOOGLE_MOBILE_ADS_EVENT_LOADED;
 extern NSString *const GOOGLE_MOBILE_ADS_EVENT_ERROR;
 extern NSString *const GOOGLE_MOBILE_ADS_EVENT_OPENED;
 extern NSString *const GOOGLE_MOBILE_ADS_EVENT_CLICKED;
+extern NSString *const GOOGLE_MOBILE_ADS_EVENT_IMPRESSION;
 extern NSString *const GOOGLE_MOBILE_ADS_EVENT_CLOSED;
 extern NSString *const GOOGLE_MOBILE_ADS_EVENT_APP_EVENT;
 
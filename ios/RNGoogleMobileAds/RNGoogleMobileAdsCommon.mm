@@ -30,6 +30,7 @@ NSString *const GOOGLE_MOBILE_ADS_EVENT_LOADED = @"loaded";
 NSString *const GOOGLE_MOBILE_ADS_EVENT_ERROR = @"error";
 NSString *const GOOGLE_MOBILE_ADS_EVENT_OPENED = @"opened";
 NSString *const GOOGLE_MOBILE_ADS_EVENT_CLICKED = @"clicked";
+NSString *const GOOGLE_MOBILE_ADS_EVENT_IMPRESSION = @"impression";
 NSString *const GOOGLE_MOBILE_ADS_EVENT_CLOSED = @"closed";
 NSString *const GOOGLE_MOBILE_ADS_EVENT_APP_EVENT = @"app_event";
 NSString *const GOOGLE_MOBILE_ADS_EVENT_REWARDED_LOADED = @"rewarded_loaded";
@@ -169,6 +169,12 @@ RCT_EXPORT_METHOD(getPurposeLegitimateInterests
   [self getPurposeLegitimateInterests:resolve reject:reject];
 }
 
+RCT_EXPORT_METHOD(getConsentSnapshot
+                  : (RCTPromiseResolveBlock)resolve
+                  : (RCTPromiseRejectBlock)reject) {
+  [self getConsentSnapshot:resolve reject:reject];
+}
+
 #ifdef RCT_NEW_ARCH_ENABLED
 - (std::shared_ptr<facebook::react::TurboModule>)getTurboModule:
     (const facebook::react::ObjCTurboModule::InitParams &)params {
@@ -353,4 +359,37 @@ RCT_EXPORT_METHOD(getPurposeLegitimateInterests
   }
 }
 
+- (void)getConsentSnapshot:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  @try {
+    // NSUserDefaults already keeps its values in memory, all IAB TCF and GPP keys are read in
+    // one pass.
+    NSDictionary *defaults = [[NSUserDefaults standardUserDefaults] dictionaryRepresentation];
+    NSMutableDictionary *values = [[NSMutableDictionary alloc] init];
+    for (NSString *key in defaults) {
+      id value = defaults[key];
+      if (([key hasPrefix:@"IABTCF_"] || [key hasPrefix:@"IABGPP_"]) &&
+          ([value isKindOfClass:[NSString class]] || [value isKindOfClass:[NSNumber class]])) {
+        values[key] = value;
+      }
+    }
+
+    NSString *tcString = values[@"IABTCF_TCString"];
+    NSString *purposeConsents = values[@"IABTCF_PurposeConsents"];
+    NSString *purposeLegitimateInterests = values[@"IABTCF_PurposeLegitimateInterests"];
+    resolve(@{
+      @"tcString" : tcString ?: [NSNull null],
+      @"gdprApplies" : @([values[@"IABTCF_gdprApplies"] integerValue] == 1),
+      @"purposeConsents" : purposeConsents ?: @"",
+      @"purposeLegitimateInterests" : purposeLegitimateInterests ?: @"",
+      @"values" : values,
+    });
+  } @catch (NSError *error) {
+    [RNSharedUtils rejectPromiseWithUserInfo:reject
+                                    userInfo:[@{
+                                      @"code" : @"consent-string-error",
+                                      @"message" : error.localizedDescription,
+                                    } mutableCopy]];
+  }
+}
+
 @end
@@ -86,6 +86,11 @@ RCT_EXPORT_METHOD(
         NSString *responseId = nativeAd.responseInfo.responseIdentifier;
         [_adHolders setValue:adHolder forKey:responseId];
 
+        NSMutableArray *images = [NSMutableArray array];
+        for (GADNativeAdImage *image in nativeAd.images) {
+          [images addObject:@{@"scale" : @(image.scale), @"url" : image.imageURL.absoluteString}];
+        }
+
         resolve(@{
           @"responseId" : responseId,
           @"advertiser" : nativeAd.advertiser ?: [NSNull null],
@@ -98,6 +103,7 @@ RCT_EXPORT_METHOD(
           @"icon" : nativeAd.icon != nil
               ? @{@"scale" : @(nativeAd.icon.scale), @"url" : nativeAd.icon.imageURL.absoluteString}
               : [NSNull null],
+          @"images" : images,
           @"mediaContent" : @{
             @"aspectRatio" : @(nativeAd.mediaContent.aspectRatio),
             @"hasVideoContent" : @(nativeAd.mediaContent.hasVideoContent),
@@ -143,7 +149,7 @@ RCT_EXPORT_METHOD(destroy
     _nativeModule = nativeModule;
 
     GADNativeAdImageAdLoaderOptions *imageOptions = [[GADNativeAdImageAdLoaderOptions alloc] init];
-    //    imageOptions.disableImageLoading = YES;
+    imageOptions.disableImageLoading = [requestOptions[@"returnUrlsForImageAssets"] boolValue];
     GADNativeAdMediaAdLoaderOptions *mediaOptions = [[GADNativeAdMediaAdLoaderOptions alloc] init];
     if (requestOptions[@"aspectRatio"]) {
       switch ([requestOptions[@"aspectRatio"] intValue]) {
@@ -164,6 +164,15 @@ using namespace facebook::react;
   });
 }
 
+- (void)registerAssets:(NSArray<NSString *> *)assetTypes
+             reactTags:(NSArray<NSNumber *> *)reactTags {
+  // Binding is debounced, so the assets registered here end up in a single bind.
+  NSUInteger count = MIN(assetTypes.count, reactTags.count);
+  for (NSUInteger i = 0; i < count; i++) {
+    [self registerAsset:assetTypes[i] reactTag:reactTags[i].integerValue];
+  }
+}
+
 - (void)reloadAd {
   if (_debouncedReload != nil) {
     dispatch_block_cancel(_debouncedReload);
@@ -214,6 +223,21 @@ RCT_EXPORT_METHOD(registerAsset
       }];
 }
 
+RCT_EXPORT_METHOD(registerAssets
+                  : (nonnull NSNumber *)reactTag assetTypes
+                  : (nonnull NSArray<NSString *> *)assetTypes reactTags
+                  : (nonnull NSArray<NSNumber *> *)reactTags) {
+  [self.bridge.uiManager
+      addUIBlock:^(RCTUIManager *uiManager, NSDictionary<NSNumber *, UIView *> *viewRegistry) {
+        RNGoogleMobileAdsNativeView *view = viewRegistry[reactTag];
+        if (!view || ![view isKindOfClass:[RNGoogleMobileAdsNativeView class]]) {
+          RCTLogError(@"Cannot find NativeView with tag #%@", reactTag);
+          return;
+        }
+        [view registerAssets:assetTypes reactTags:reactTags];
+      }];
+}
+
 @end
 
 #endif
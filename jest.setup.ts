@@ -26,6 +26,29 @@ jest.doMock('react-native', () => {
           if (moduleName === 'RNGoogleMobileAdsInterstitialModule') {
             return {
               interstitialLoad: jest.fn(),
+              interstitialPreload: jest.fn(),
+            };
+          }
+          if (moduleName === 'RNGoogleMobileAdsNativeModule') {
+            return {
+              load: jest.fn(),
+              loadMultiFormat: jest.fn(),
+              loadMany: jest.fn(),
+              configurePrefetch: jest.fn(),
+              dequeue: jest.fn(() => null),
+              configurePlacement: jest.fn(),
+              removePlacement: jest.fn(),
+              setVisibleRange: jest.fn(),
+              getAdAtPosition: jest.fn(() => null),
+              getPrefetchStats: jest.fn(() => Promise.resolve({})),
+              destroy: jest.fn(),
+              onAdEvent: jest.fn(() => ({ remove: jest.fn() })),
+            };
+          }
+          if (moduleName === 'RNGoogleMobileAdsAppOpenModule') {
+            return {
+              appOpenLoad: jest.fn(),
+              appOpenSetAutoShow: jest.fn(),
             };
           }
 
@@ -36,6 +59,7 @@ jest.doMock('react-native', () => {
             openDebugMenu: jest.fn(),
             setAppVolume: jest.fn(),
             setAppMuted: jest.fn(),
+            getLatencyStats: jest.fn(() => Promise.resolve({})),
           };
         },
       },
@@ -63,6 +63,11 @@ export enum AdEventType {
    */
   CLICKED = 'clicked',
 
+  /**
+   * The ad recorded an impression. On Android the payload carries how long it took to get there.
+   */
+  IMPRESSION = 'impression',
+
   /**
    * The user closed the ad and has returned back to your application.
    */
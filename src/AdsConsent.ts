@@ -15,17 +15,75 @@
  *
  */
 
-import { TCModel, TCString } from '@iabtcf/core';
+import { RestrictionType, TCModel, TCString, Vector } from '@iabtcf/core';
 import { AdsConsentPurposes } from './AdsConsentPurposes';
 import { AdsConsentSpecialFeatures } from './AdsConsentSpecialFeatures';
-import { isPropertySet, isArray, isBoolean, isObject, isString } from './common';
+import { isPropertySet, isArray, isBoolean, isNumber, isObject, isString } from './common';
 import {
   AdsConsentInterface,
   AdsConsentDebugGeography,
   AdsConsentInfoOptions,
+  AdsConsentSnapshot,
+  AdsConsentTCData,
 } from './specs/modules/NativeConsentModule';
 import native from './specs/modules/NativeConsentModule';
 
+// The last TC string decoded in JS, on platforms that cannot decode it natively.
+let decodedTCString: { tcString: string; tcModel: TCModel | null } | null = null;
+
+async function getDecodedTCModel(): Promise<TCModel | null> {
+  const tcString = await native.getTCString();
+  if (decodedTCString?.tcString !== tcString) {
+    let tcModel: TCModel | null = null;
+    if (tcString) {
+      try {
+        tcModel = TCString.decode(tcString);
+      } catch (e) {
+        if (__DEV__) {
+          // eslint-disable-next-line no-console
+          console.warn(`Failed to decode tcString ${tcString}:`, e);
+        }
+      }
+    }
+    decodedTCString = { tcString, tcModel };
+  }
+  return decodedTCString.tcModel;
+}
+
+function vectorToArray(vector: Vector): number[] {
+  const ids: number[] = [];
+  vector.forEach((value, id) => {
+    if (value) {
+      ids.push(id);
+    }
+  });
+  return ids;
+}
+
+function isRestricted(
+  tcModel: TCModel,
+  vendorId: number,
+  purposeId: number,
+  restrictionType: RestrictionType,
+) {
+  return tcModel.publisherRestrictions
+    .getRestrictions(vendorId)
+    .some(
+      restriction =>
+        restriction.purposeId === purposeId && restriction.restrictionType === restrictionType,
+    );
+}
+
+function validateVendorPurpose(method: string, vendorId: number, purposeId: number) {
+  if (!isNumber(vendorId)) {
+    throw new Error(`AdsConsent.${method}(*) 'vendorId' expected a number value.`);
+  }
+
+  if (!isNumber(purposeId)) {
+    throw new Error(`AdsConsent.${method}(_, *) 'purposeId' expected a number value.`);
+  }
+}
+
 export const AdsConsent: AdsConsentInterface = {
   requestInfoUpdate(options: AdsConsentInfoOptions = {}) {
     if (!isObject(options)) {
@@ -119,6 +177,80 @@ export const AdsConsent: AdsConsentInterface = {
     return native.getPurposeLegitimateInterests();
   },
 
+  async getConsentSnapshot() {
+    return (await native.getConsentSnapshot()) as AdsConsentSnapshot;
+  },
+
+  async getTCData() {
+    if (native.getTCData) {
+      return (await native.getTCData()) as AdsConsentTCData | null;
+    }
+
+    const tcModel = await getDecodedTCModel();
+    if (!tcModel) {
+      return null;
+    }
+    return {
+      version: tcModel.version,
+      created: tcModel.created.getTime(),
+      lastUpdated: tcModel.lastUpdated.getTime(),
+      cmpId: tcModel.cmpId,
+      cmpVersion: tcModel.cmpVersion,
+      consentScreen: tcModel.consentScreen,
+      consentLanguage: tcModel.consentLanguage,
+      vendorListVersion: tcModel.vendorListVersion,
+      policyVersion: tcModel.policyVersion,
+      isServiceSpecific: tcModel.isServiceSpecific,
+      purposeOneTreatment: tcModel.purposeOneTreatment,
+      publisherCountryCode: tcModel.publisherCountryCode,
+      specialFeatureOptins: vectorToArray(tcModel.specialFeatureOptins),
+      purposeConsents: vectorToArray(tcModel.purposeConsents),
+      purposeLegitimateInterests: vectorToArray(tcModel.purposeLegitimateInterests),
+      publisherConsents: vectorToArray(tcModel.publisherConsents),
+      publisherLegitimateInterests: vectorToArray(tcModel.publisherLegitimateInterests),
+      customPurposeConsents: vectorToArray(tcModel.publisherCustomConsents),
+      customPurposeLegitimateInterests: vectorToArray(tcModel.publisherCustomLegitimateInterests),
+    };
+  },
+
+  async hasVendorPurposeConsent(vendorId: number, purposeId: number) {
+    validateVendorPurpose('hasVendorPurposeConsent', vendorId, purposeId);
+
+    if (native.hasVendorPurposeConsent) {
+      return native.hasVendorPurposeConsent(vendorId, purposeId);
+    }
+
+    const tcModel = await getDecodedTCModel();
+    if (!tcModel) {
+      return false;
+    }
+    return (
+      tcModel.purposeConsents.has(purposeId) &&
+      tcModel.vendorConsents.has(vendorId) &&
+      !isRestricted(tcModel, vendorId, purposeId, RestrictionType.NOT_ALLOWED) &&
+      !isRestricted(tcModel, vendorId, purposeId, RestrictionType.REQUIRE_LI)
+    );
+  },
+
+  async hasVendorPurposeLegitimateInterest(vendorId: number, purposeId: number) {
+    validateVendorPurpose('hasVendorPurposeLegitimateInterest', vendorId, purposeId);
+
+    if (native.hasVendorPurposeLegitimateInterest) {
+      return native.hasVendorPurposeLegitimateInterest(vendorId, purposeId);
+    }
+
+    const tcModel = await getDecodedTCModel();
+    if (!tcModel || purposeId < 2) {
+      return false;
+    }
+    return (
+      tcModel.purposeLegitimateInterests.has(purposeId) &&
+      tcModel.vendorLegitimateInterests.has(vendorId) &&
+      !isRestricted(tcModel, vendorId, purposeId, RestrictionType.NOT_ALLOWED) &&
+      !isRestricted(tcModel, vendorId, purposeId, RestrictionType.REQUIRE_CONSENT)
+    );
+  },
+
   async getUserChoices() {
     const tcString = await native.getTCString();
 
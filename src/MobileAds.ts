@@ -4,6 +4,7 @@ import { SharedEventEmitter } from './internal/SharedEventEmitter';
 import { GoogleMobileAdsNativeEventEmitter } from './internal/GoogleMobileAdsNativeEventEmitter';
 import { MobileAdsModuleInterface } from './types/MobileAdsModule.interface';
 import { RequestConfiguration } from './types/RequestConfiguration';
+import { LatencyStats } from './types/LatencyStats';
 
 const NATIVE_MODULE_EVENT_SUBSCRIPTIONS: Record<string, unknown> = {};
 
@@ -68,6 +69,11 @@ class MobileAdsModule implements MobileAdsModuleInterface {
   setAppMuted(muted: boolean) {
     RNGoogleMobileAdsModule.setAppMuted(muted);
   }
+
+  async getLatencyStats() {
+    // Latency stats are only collected natively on Android.
+    return ((await RNGoogleMobileAdsModule.getLatencyStats?.()) ?? {}) as LatencyStats;
+  }
 }
 
 const MobileAdsInstance = new MobileAdsModule();
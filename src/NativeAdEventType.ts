@@ -48,4 +48,10 @@ export enum NativeAdEventType {
    * Called when the video controller has unmuted video.
    */
   VIDEO_UNMUTED = 'video_unmuted',
+
+  /**
+   * Called when the native ad was released without `destroy()` being called, because it expired
+   * before being shown or the native ad cache ran out of room (Android only).
+   */
+  EVICTED = 'evicted',
 }
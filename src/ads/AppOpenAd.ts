@@ -22,11 +22,42 @@ import { AdEventType } from '../AdEventType';
 import { AdEventListener } from '../types/AdEventListener';
 import { AdEventsListener } from '../types/AdEventsListener';
 import { RequestOptions } from '../types/RequestOptions';
+import { AppOpenAutoShowOptions } from '../types/AppOpenAutoShowOptions';
+import { validateAppOpenAutoShowOptions } from '../validateAppOpenAutoShowOptions';
 import NativeAppOpenModule from '../specs/modules/NativeAppOpenModule';
 
 export class AppOpenAd extends MobileAd {
   protected static _appOpenRequest = 0;
 
+  /**
+   * Keeps a pool of loaded ads ready natively for the given ad unit, so a later `load()` for the
+   * same ad unit resolves immediately with one of them. The pool refills itself in the background
+   * after an ad is taken, and drops ads before they expire. Pass a `depth` of `0` to disable it.
+   *
+   * Preloading is currently only supported on Android, on other platforms this is a no-op.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { AppOpenAd, TestIds } from 'react-native-google-mobile-ads';
+   *
+   * AppOpenAd.preload(TestIds.APP_OPEN, { requestNonPersonalizedAdsOnly: true }, 2);
+   * ```
+   *
+   * @param adUnitId The Ad Unit ID to keep loaded ads for.
+   * @param requestOptions Optional RequestOptions used to load the pooled ads.
+   * @param depth The number of ads to keep ready, defaults to `1`.
+   */
+  static preload(adUnitId: string, requestOptions?: RequestOptions, depth = 1) {
+    this._preload(
+      'AppOpenAd',
+      NativeAppOpenModule.appOpenPreload,
+      adUnitId,
+      requestOptions,
+      depth,
+    );
+  }
+
   static createForAdRequest(adUnitId: string, requestOptions?: RequestOptions) {
     if (!isString(adUnitId)) {
       throw new Error("AppOpenAd.createForAdRequest(*) 'adUnitId' expected an string value.");
@@ -52,6 +83,56 @@ export class AppOpenAd extends MobileAd {
     );
   }
 
+  /**
+   * Lets the native side show an app open ad by itself every time the app returns to the
+   * foreground, without waiting for JavaScript. A pool of preloaded ads is kept for this ad's
+   * unit (see `AppOpenAd.preload`), and the events of every ad shown this way are delivered to
+   * the listeners of this instance.
+   *
+   * Auto show is currently only supported on Android, on other platforms this is a no-op.
+   *
+   * #### Example
+   *
+   * ```js
+   * const appOpenAd = AppOpenAd.createForAdRequest(TestIds.APP_OPEN);
+   * appOpenAd.addAdEventListener(AdEventType.OPENED, () => console.log('shown on foreground'));
+   * appOpenAd.enableAutoShow({ cooldown: 60 * 1000, minimumBackgroundDuration: 30 * 1000 });
+   * ```
+   *
+   * @param autoShowOptions Optional cooldown and expiry rules, see `AppOpenAutoShowOptions`.
+   */
+  enableAutoShow(autoShowOptions?: AppOpenAutoShowOptions) {
+    let options;
+    try {
+      options = validateAppOpenAutoShowOptions(autoShowOptions);
+    } catch (e) {
+      if (e instanceof Error) {
+        throw new Error(`AppOpenAd.enableAutoShow(*) ${e.message}.`);
+      } else {
+        throw e;
+      }
+    }
+
+    NativeAppOpenModule.appOpenSetAutoShow?.(
+      this._requestId,
+      this._adUnitId,
+      this._requestOptions,
+      { ...options, enabled: true },
+    );
+  }
+
+  /**
+   * Stops showing app open ads natively on foreground, see `enableAutoShow`.
+   */
+  disableAutoShow() {
+    NativeAppOpenModule.appOpenSetAutoShow?.(
+      this._requestId,
+      this._adUnitId,
+      this._requestOptions,
+      { enabled: false },
+    );
+  }
+
   addAdEventsListener<T extends AdEventType>(listener: AdEventsListener<T>): () => void {
     return this._addAdEventsListener(listener);
   }
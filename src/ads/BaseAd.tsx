@@ -35,7 +35,16 @@ export const BaseAd = React.forwardRef<
   GAMBannerAdProps
 >(
   (
-    { unitId, sizes, maxHeight, width, requestOptions, manualImpressionsEnabled, ...props },
+    {
+      unitId,
+      sizes,
+      maxHeight,
+      width,
+      requestOptions,
+      manualImpressionsEnabled,
+      slotId,
+      ...props
+    },
     ref,
   ) => {
     const [dimensions, setDimensions] = useState<(number | DimensionValue)[]>([0, 0]);
@@ -178,6 +187,7 @@ export const BaseAd = React.forwardRef<
         unitId={unitId}
         request={JSON.stringify(validatedRequestOptions)}
         manualImpressionsEnabled={!!manualImpressionsEnabled}
+        slotId={slotId}
         onNativeEvent={onNativeEvent}
       />
     );
@@ -65,6 +65,36 @@ import NativeInterstitialModule from '../specs/modules/NativeInterstitialModule'
  */
 export class InterstitialAd extends MobileAd {
   protected static _interstitialRequest = 0;
+
+  /**
+   * Keeps a pool of loaded ads ready natively for the given ad unit, so a later `load()` for the
+   * same ad unit resolves immediately with one of them. The pool refills itself in the background
+   * after an ad is taken, and drops ads before they expire. Pass a `depth` of `0` to disable it.
+   *
+   * Preloading is currently only supported on Android, on other platforms this is a no-op.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { InterstitialAd, TestIds } from 'react-native-google-mobile-ads';
+   *
+   * InterstitialAd.preload(TestIds.INTERSTITIAL, { requestNonPersonalizedAdsOnly: true }, 2);
+   * ```
+   *
+   * @param adUnitId The Ad Unit ID to keep loaded ads for.
+   * @param requestOptions Optional RequestOptions used to load the pooled ads.
+   * @param depth The number of ads to keep ready, defaults to `1`.
+   */
+  static preload(adUnitId: string, requestOptions?: RequestOptions, depth = 1) {
+    this._preload(
+      'InterstitialAd',
+      NativeInterstitialModule.interstitialPreload,
+      adUnitId,
+      requestOptions,
+      depth,
+    );
+  }
+
   /**
    * Creates a new InterstitialAd instance.
    *
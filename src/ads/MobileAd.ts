@@ -16,7 +16,7 @@
  */
 
 import { EmitterSubscription } from 'react-native';
-import { isFunction, isOneOf } from '../common';
+import { isFunction, isNumber, isOneOf, isString } from '../common';
 import { NativeError } from '../internal/NativeError';
 import { AdEventType } from '../AdEventType';
 import { RewardedAdEventType } from '../RewardedAdEventType';
@@ -29,6 +29,8 @@ import { MobileAdInterface } from '../types/MobileAd.interface';
 import { RewardedAdReward } from '../types/RewardedAdReward';
 import { GAMAdEventType } from '../GAMAdEventType';
 import { AppEvent } from '../types/AppEvent';
+import { AdImpressionEvent, AdOpenedEvent } from '../types/LatencyStats';
+import { validateAdRequestOptions } from '../validateAdRequestOptions';
 import { validateAdShowOptions } from '../validateAdShowOptions';
 
 type AdType = 'app_open' | 'interstitial' | 'rewarded' | 'rewarded_interstitial';
@@ -39,6 +41,11 @@ type AdShowFunction = (
   adUnitId: string,
   showOptions?: AdShowOptions,
 ) => Promise<void>;
+type AdPreloadFunction = (
+  adUnitId: string,
+  requestOptions: RequestOptions,
+  depth: number,
+) => void;
 
 export abstract class MobileAd implements MobileAdInterface {
   protected _type: AdType;
@@ -91,11 +98,41 @@ export abstract class MobileAd implements MobileAdInterface {
     );
   }
 
+  protected static _preload(
+    className: string,
+    adPreloadFunction: AdPreloadFunction | undefined,
+    adUnitId: string,
+    requestOptions?: RequestOptions,
+    depth = 1,
+  ) {
+    if (!isString(adUnitId)) {
+      throw new Error(`${className}.preload(*) 'adUnitId' expected an string value.`);
+    }
+
+    let options = {};
+    try {
+      options = validateAdRequestOptions(requestOptions);
+    } catch (e) {
+      if (e instanceof Error) {
+        throw new Error(`${className}.preload(_, *) ${e.message}.`);
+      } else {
+        throw e;
+      }
+    }
+
+    if (!isNumber(depth) || depth < 0 || Math.floor(depth) !== depth) {
+      throw new Error(`${className}.preload(_, _, *) 'depth' expected a positive integer value.`);
+    }
+
+    // Preload pools are only implemented natively on Android, elsewhere ads load on demand.
+    adPreloadFunction?.(adUnitId, options, depth);
+  }
+
   protected _handleAdEvent(event: {
     body: {
       type: EventType;
       error?: { code: string; message: string };
-      data?: RewardedAdReward | AppEvent;
+      data?: RewardedAdReward | AppEvent | AdOpenedEvent | AdImpressionEvent;
     };
   }) {
     const { type, error, data } = event.body;
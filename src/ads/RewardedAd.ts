@@ -72,6 +72,36 @@ import NativeRewardedModule from '../specs/modules/NativeRewardedModule';
  */
 export class RewardedAd extends MobileAd {
   protected static _rewardedRequest = 0;
+
+  /**
+   * Keeps a pool of loaded ads ready natively for the given ad unit, so a later `load()` for the
+   * same ad unit resolves immediately with one of them. The pool refills itself in the background
+   * after an ad is taken, and drops ads before they expire. Pass a `depth` of `0` to disable it.
+   *
+   * Preloading is currently only supported on Android, on other platforms this is a no-op.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { RewardedAd, TestIds } from 'react-native-google-mobile-ads';
+   *
+   * RewardedAd.preload(TestIds.REWARDED, { requestNonPersonalizedAdsOnly: true }, 2);
+   * ```
+   *
+   * @param adUnitId The Ad Unit ID to keep loaded ads for.
+   * @param requestOptions Optional RequestOptions used to load the pooled ads.
+   * @param depth The number of ads to keep ready, defaults to `1`.
+   */
+  static preload(adUnitId: string, requestOptions?: RequestOptions, depth = 1) {
+    this._preload(
+      'RewardedAd',
+      NativeRewardedModule.rewardedPreload,
+      adUnitId,
+      requestOptions,
+      depth,
+    );
+  }
+
   /**
    * Creates a new RewardedAd instance.
    *
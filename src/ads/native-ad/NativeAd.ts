@@ -18,20 +18,45 @@
 import { EventSubscription, NativeEventEmitter, Platform } from 'react-native';
 import EventEmitter from 'react-native/Libraries/vendor/emitter/EventEmitter';
 
+import { BannerAdSize } from '../../BannerAdSize';
 import { NativeAdEventType } from '../../NativeAdEventType';
-import { isFunction, isOneOf, isString } from '../../common';
+import {
+  isArray,
+  isFunction,
+  isNumber,
+  isObject,
+  isOneOf,
+  isString,
+  isUndefined,
+} from '../../common';
 import NativeGoogleMobileAdsNativeModule, {
+  NativeAdBatchEventPayload,
   NativeAdEventPayload,
+  NativeAdEvictedEventPayload,
   NativeAdImage,
+  NativeAdMultiFormatProps,
+  NativeAdPlacementEventPayload,
   NativeAdPaidEventPayload,
   NativeAdProps,
   NativeMediaContent,
 } from '../../specs/modules/NativeGoogleMobileAdsNativeModule';
-import { NativeAdRequestOptions } from '../../types';
+import {
+  NativeAdMultiFormatResult,
+  NativeAdPlacementOptions,
+  NativeAdPrefetchOptions,
+  NativeAdPrefetchStats,
+  NativeAdRequestOptions,
+} from '../../types';
 import { validateNativeAdRequestOptions } from '../../validateNativeAdRequestOptions';
 
 type NativeAdListenerPayload<EventType extends NativeAdEventType> =
-  EventType extends NativeAdEventType.PAID ? NativeAdPaidEventPayload : never;
+  EventType extends NativeAdEventType.PAID
+    ? NativeAdPaidEventPayload
+    : EventType extends NativeAdEventType.EVICTED
+    ? NativeAdEvictedEventPayload
+    : never;
+
+const sizeRegex = /([0-9]+)x([0-9]+)/;
 
 /**
  * A class for loading Native Ads.
@@ -69,23 +94,30 @@ export class NativeAd {
     this.mediaContent = props.mediaContent;
     this.extras = props.extras as Record<string, unknown>;
 
+    this.nativeEventSubscription = NativeAd.addNativeEventListener(
+      this.onNativeAdEvent.bind(this),
+    );
+    this.eventEmitter = new EventEmitter();
+  }
+
+  private static batchId = 0;
+  private static prefetchAdUnitIds = new Map<string, string>();
+  private static placementAds = new Map<string, NativeAd>();
+  private static placementSubscriptions = new Map<string, EventSubscription>();
+
+  private static addNativeEventListener(
+    listener: (payload: NativeAdEventPayload) => void,
+  ): EventSubscription {
     if ('onAdEvent' in NativeGoogleMobileAdsNativeModule) {
-      this.nativeEventSubscription = NativeGoogleMobileAdsNativeModule.onAdEvent(
-        this.onNativeAdEvent.bind(this),
-      );
+      return NativeGoogleMobileAdsNativeModule.onAdEvent(listener);
+    }
+    let eventEmitter;
+    if (Platform.OS === 'ios') {
+      eventEmitter = new NativeEventEmitter(NativeGoogleMobileAdsNativeModule);
     } else {
-      let eventEmitter;
-      if (Platform.OS === 'ios') {
-        eventEmitter = new NativeEventEmitter(NativeGoogleMobileAdsNativeModule);
-      } else {
-        eventEmitter = new NativeEventEmitter();
-      }
-      this.nativeEventSubscription = eventEmitter.addListener(
-        'RNGMANativeAdEvent',
-        this.onNativeAdEvent.bind(this),
-      );
+      eventEmitter = new NativeEventEmitter();
     }
-    this.eventEmitter = new EventEmitter();
+    return eventEmitter.addListener('RNGMANativeAdEvent', listener);
   }
 
   private onNativeAdEvent({ responseId, type, ...data }: NativeAdEventPayload) {
@@ -93,6 +125,10 @@ export class NativeAd {
       return;
     }
     this.eventEmitter.emit(type, data);
+    if (type === NativeAdEventType.EVICTED) {
+      // The native side has already released the ad, nothing else will be reported for it.
+      this.nativeEventSubscription.remove();
+    }
   }
 
   addAdEventListener<EventType extends NativeAdEventType>(
@@ -156,4 +192,438 @@ export class NativeAd {
 
     return new NativeAd(adUnitId, props);
   }
+
+  /**
+   * Requests a native ad and an Ad Manager banner with a single request, for slots that can show
+   * either, and resolves with whichever format the ad server returned.
+   *
+   * A banner is already loaded when the promise resolves. Show it by passing its `slotId` to a
+   * `GAMBannerAd` with the same unit ID and sizes right away, it is released after five minutes.
+   *
+   * Adaptive banner sizes need a view to be measured against and are not supported. Android only,
+   * on iOS only a native ad is requested.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { NativeAd, BannerAdSize } from 'react-native-google-mobile-ads';
+   *
+   * const result = await NativeAd.loadMultiFormat(adUnitId, [BannerAdSize.MEDIUM_RECTANGLE]);
+   * if (result.format === 'native') {
+   *   setNativeAd(result.nativeAd);
+   * } else {
+   *   setBannerSlotId(result.slotId);
+   * }
+   * ```
+   *
+   * @param adUnitId The Ad Manager Ad Unit ID, which must be set up for both native and banner ads.
+   * @param bannerSizes The banner sizes the slot accepts.
+   * @param requestOptions Optional RequestOptions used to load the ad.
+   */
+  static async loadMultiFormat(
+    adUnitId: string,
+    bannerSizes: string[],
+    requestOptions?: NativeAdRequestOptions,
+  ): Promise<NativeAdMultiFormatResult> {
+    if (!isString(adUnitId)) {
+      throw new Error("NativeAd.loadMultiFormat(*) 'adUnitId' expected an string value.");
+    }
+    if (
+      !isArray(bannerSizes) ||
+      bannerSizes.length === 0 ||
+      !bannerSizes.every(
+        size =>
+          isString(size) &&
+          (size === 'FLUID' ||
+            sizeRegex.test(size) ||
+            (size in BannerAdSize && !size.includes('ADAPTIVE'))),
+      )
+    ) {
+      throw new Error(
+        "NativeAd.loadMultiFormat(_, *) 'bannerSizes' expected an array of fixed banner sizes.",
+      );
+    }
+
+    let options = {};
+    try {
+      options = validateNativeAdRequestOptions(requestOptions);
+    } catch (e) {
+      if (e instanceof Error) {
+        throw new Error(`NativeAd.loadMultiFormat(_, _, *) ${e.message}.`);
+      } else {
+        throw e;
+      }
+    }
+
+    const loadMultiFormat = NativeGoogleMobileAdsNativeModule.loadMultiFormat;
+    if (!loadMultiFormat) {
+      const props = await NativeGoogleMobileAdsNativeModule.load(adUnitId, options);
+      return { format: 'native', nativeAd: new NativeAd(adUnitId, props) };
+    }
+
+    const result = (await loadMultiFormat(
+      adUnitId,
+      bannerSizes,
+      options,
+    )) as NativeAdMultiFormatProps;
+    if (result.format === 'native') {
+      return { format: 'native', nativeAd: new NativeAd(adUnitId, result.ad) };
+    }
+    return result;
+  }
+
+  /**
+   * Loads several native ads with a single call and returns them once all have arrived.
+   * Pass `onAdLoaded` to receive each ad as soon as it is loaded instead of waiting for the rest.
+   *
+   * The promise rejects only if no ad could be loaded at all, so it can resolve with fewer ads
+   * than requested. On Android at most as many ads as the native ad cache holds are loaded.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { NativeAd, TestIds } from 'react-native-google-mobile-ads';
+   *
+   * const nativeAds = await NativeAd.loadMany(TestIds.NATIVE, 10, {}, nativeAd => {
+   *   setFeedAds(ads => [...ads, nativeAd]);
+   * });
+   * ```
+   *
+   * @param adUnitId The Ad Unit ID for the Native Ads. You can find this on your Google Mobile Ads dashboard.
+   * @param count The number of ads to load.
+   * @param requestOptions Optional RequestOptions used to load the ads.
+   * @param onAdLoaded Optional callback called with each ad as it is loaded.
+   */
+  static async loadMany(
+    adUnitId: string,
+    count: number,
+    requestOptions?: NativeAdRequestOptions,
+    onAdLoaded?: (nativeAd: NativeAd) => void,
+  ): Promise<NativeAd[]> {
+    if (!isString(adUnitId)) {
+      throw new Error("NativeAd.loadMany(*) 'adUnitId' expected an string value.");
+    }
+    if (!isNumber(count) || count < 1) {
+      throw new Error("NativeAd.loadMany(_, *) 'count' expected a number greater than 0.");
+    }
+    if (!isUndefined(onAdLoaded) && !isFunction(onAdLoaded)) {
+      throw new Error("NativeAd.loadMany(_, _, _, *) 'onAdLoaded' expected a function.");
+    }
+
+    let options = {};
+    try {
+      options = validateNativeAdRequestOptions(requestOptions);
+    } catch (e) {
+      if (e instanceof Error) {
+        throw new Error(`NativeAd.loadMany(_, _, *) ${e.message}.`);
+      } else {
+        throw e;
+      }
+    }
+
+    const loadMany = NativeGoogleMobileAdsNativeModule.loadMany;
+    if (!loadMany) {
+      // Without batch loading on this platform, the ads are requested one by one.
+      const results = await Promise.allSettled(
+        Array.from({ length: count }, async () => {
+          const props = await NativeGoogleMobileAdsNativeModule.load(adUnitId, options);
+          const nativeAd = new NativeAd(adUnitId, props);
+          onAdLoaded?.(nativeAd);
+          return nativeAd;
+        }),
+      );
+      const nativeAds = results.flatMap(result =>
+        result.status === 'fulfilled' ? [result.value] : [],
+      );
+      if (nativeAds.length === 0) {
+        throw (results[0] as PromiseRejectedResult).reason;
+      }
+      return nativeAds;
+    }
+
+    const batchId = ++NativeAd.batchId;
+    return new Promise((resolve, reject) => {
+      const nativeAds: NativeAd[] = [];
+      const subscription = NativeAd.addNativeEventListener(payload => {
+        const event = payload as NativeAdBatchEventPayload;
+        if (event.batchId !== batchId) {
+          return;
+        }
+        if (event.type === 'batch_ad_loaded' && event.ad) {
+          const nativeAd = new NativeAd(adUnitId, event.ad);
+          nativeAds.push(nativeAd);
+          onAdLoaded?.(nativeAd);
+        } else if (event.type === 'batch_completed') {
+          subscription.remove();
+          if (nativeAds.length === 0 && event.error) {
+            reject(new Error(`[${event.error.code}] ${event.error.message}`));
+          } else {
+            resolve(nativeAds);
+          }
+        }
+      });
+      loadMany(batchId, adUnitId, count, options);
+    });
+  }
+
+  /**
+   * Keeps a queue of loaded ads ready for `placement`, so they can be taken synchronously with
+   * `NativeAd.dequeue()` when a feed cell mounts. The queue is refilled in the background whenever
+   * it holds `lowWatermark` ads or fewer, and ads that expire while queued are dropped.
+   *
+   * Pass a `highWatermark` of `0` to remove the queue. Android only, a no-op on iOS.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { NativeAd, TestIds } from 'react-native-google-mobile-ads';
+   *
+   * NativeAd.configurePrefetch('feed', TestIds.NATIVE, { lowWatermark: 2, highWatermark: 5 });
+   * ```
+   *
+   * @param placement A name for the place in your app the queued ads are shown in.
+   * @param adUnitId The Ad Unit ID for the Native Ads. You can find this on your Google Mobile Ads dashboard.
+   * @param options Optional watermarks and request options of the queue.
+   */
+  static configurePrefetch(
+    placement: string,
+    adUnitId: string,
+    options: NativeAdPrefetchOptions = {},
+  ) {
+    NativeAd.setUpPrefetch('configurePrefetch', placement, adUnitId, options);
+  }
+
+  private static setUpPrefetch(
+    method: string,
+    placement: string,
+    adUnitId: string,
+    options: NativeAdPrefetchOptions,
+  ) {
+    if (!isString(placement)) {
+      throw new Error(`NativeAd.${method}(*) 'placement' expected an string value.`);
+    }
+    if (!isString(adUnitId)) {
+      throw new Error(`NativeAd.${method}(_, *) 'adUnitId' expected an string value.`);
+    }
+    if (!isObject(options)) {
+      throw new Error(`NativeAd.${method}(_, _, *) 'options' expected an object value.`);
+    }
+    const { lowWatermark = 1, highWatermark = 3 } = options;
+    if (!isNumber(lowWatermark) || lowWatermark < 0) {
+      throw new Error(
+        `NativeAd.${method}(_, _, *) 'options.lowWatermark' expected a positive number value.`,
+      );
+    }
+    if (!isNumber(highWatermark) || (highWatermark !== 0 && highWatermark <= lowWatermark)) {
+      throw new Error(
+        `NativeAd.${method}(_, _, *) 'options.highWatermark' expected a number greater than 'options.lowWatermark'.`,
+      );
+    }
+
+    let requestOptions = {};
+    try {
+      requestOptions = validateNativeAdRequestOptions(options.requestOptions);
+    } catch (e) {
+      if (e instanceof Error) {
+        throw new Error(`NativeAd.${method}(_, _, *) ${e.message}.`);
+      } else {
+        throw e;
+      }
+    }
+
+    if (highWatermark === 0) {
+      NativeAd.prefetchAdUnitIds.delete(placement);
+    } else {
+      NativeAd.prefetchAdUnitIds.set(placement, adUnitId);
+    }
+    NativeGoogleMobileAdsNativeModule.configurePrefetch?.(
+      placement,
+      adUnitId,
+      lowWatermark,
+      highWatermark,
+      requestOptions,
+    );
+  }
+
+  /**
+   * Synchronously takes an already loaded ad from the prefetch queue of `placement`, or returns
+   * `null` when the queue is empty or was never configured.
+   *
+   * @param placement The placement passed to `NativeAd.configurePrefetch()`.
+   */
+  static dequeue(placement: string): NativeAd | null {
+    if (!isString(placement)) {
+      throw new Error("NativeAd.dequeue(*) 'placement' expected an string value.");
+    }
+
+    const props = NativeGoogleMobileAdsNativeModule.dequeue?.(placement);
+    if (!props) {
+      return null;
+    }
+    return new NativeAd(NativeAd.prefetchAdUnitIds.get(placement) ?? '', props);
+  }
+
+  /**
+   * Returns the hit rate and refill latency of every prefetch queue, keyed by placement.
+   */
+  static async getPrefetchStats(): Promise<Record<string, NativeAdPrefetchStats>> {
+    const stats = await NativeGoogleMobileAdsNativeModule.getPrefetchStats?.();
+    return (stats ?? {}) as Record<string, NativeAdPrefetchStats>;
+  }
+
+  /**
+   * Places native ads in a list. The ads come from a prefetch queue of the same name, which this
+   * sets up with `options`. As the visible range reported with `NativeAd.setVisibleRange()` gets
+   * close to an ad slot, an ad is assigned to it, and once the range is far away the ad is taken
+   * back. Cells then only need `NativeAd.getAdAtPosition()` to know which ad to render.
+   *
+   * Ads of a placement are owned by it and must not be destroyed. Taken back ads emit
+   * `NativeAdEventType.EVICTED`. Android only, a no-op on iOS.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { NativeAd, TestIds } from 'react-native-google-mobile-ads';
+   *
+   * NativeAd.configurePlacement('feed', TestIds.NATIVE, {
+   *   firstPosition: 3,
+   *   spacing: 8,
+   *   onAdsAssigned: () => setAdsVersion(version => version + 1),
+   * });
+   * ```
+   *
+   * @param placement A name for the list the ads are shown in.
+   * @param adUnitId The Ad Unit ID for the Native Ads. You can find this on your Google Mobile Ads dashboard.
+   * @param options Optional spacing rules, distances, watermarks and request options.
+   */
+  static configurePlacement(
+    placement: string,
+    adUnitId: string,
+    options: NativeAdPlacementOptions = {},
+  ) {
+    if (!isObject(options)) {
+      throw new Error("NativeAd.configurePlacement(_, _, *) 'options' expected an object value.");
+    }
+    const {
+      firstPosition = 2,
+      spacing = 5,
+      maxAds = 0,
+      preloadDistance = 10,
+      recycleDistance = 30,
+      onAdsAssigned,
+    } = options;
+    if (!isNumber(firstPosition) || firstPosition < 0) {
+      throw new Error(
+        "NativeAd.configurePlacement(_, _, *) 'options.firstPosition' expected a positive number value.",
+      );
+    }
+    if (!isNumber(spacing) || spacing < 0) {
+      throw new Error(
+        "NativeAd.configurePlacement(_, _, *) 'options.spacing' expected a positive number value.",
+      );
+    }
+    if (!isNumber(maxAds) || maxAds < 0) {
+      throw new Error(
+        "NativeAd.configurePlacement(_, _, *) 'options.maxAds' expected a positive number value.",
+      );
+    }
+    if (!isNumber(preloadDistance) || preloadDistance < 0) {
+      throw new Error(
+        "NativeAd.configurePlacement(_, _, *) 'options.preloadDistance' expected a positive number value.",
+      );
+    }
+    if (!isNumber(recycleDistance) || recycleDistance < preloadDistance) {
+      throw new Error(
+        "NativeAd.configurePlacement(_, _, *) 'options.recycleDistance' expected a number not less than 'options.preloadDistance'.",
+      );
+    }
+    if (!isUndefined(onAdsAssigned) && !isFunction(onAdsAssigned)) {
+      throw new Error(
+        "NativeAd.configurePlacement(_, _, *) 'options.onAdsAssigned' expected a function.",
+      );
+    }
+
+    NativeAd.setUpPrefetch('configurePlacement', placement, adUnitId, options);
+    NativeAd.placementSubscriptions.get(placement)?.remove();
+    NativeAd.placementSubscriptions.delete(placement);
+    if (onAdsAssigned) {
+      const subscription = NativeAd.addNativeEventListener(payload => {
+        const event = payload as NativeAdPlacementEventPayload;
+        if (event.type === 'placement_updated' && event.placement === placement) {
+          onAdsAssigned(event.positions);
+        }
+      });
+      NativeAd.placementSubscriptions.set(placement, subscription);
+    }
+    NativeGoogleMobileAdsNativeModule.configurePlacement?.(
+      placement,
+      firstPosition,
+      spacing,
+      maxAds,
+      preloadDistance,
+      recycleDistance,
+    );
+  }
+
+  /**
+   * Removes the placement and its prefetch queue, and destroys the ads it placed.
+   *
+   * @param placement The placement passed to `NativeAd.configurePlacement()`.
+   */
+  static removePlacement(placement: string) {
+    if (!isString(placement)) {
+      throw new Error("NativeAd.removePlacement(*) 'placement' expected an string value.");
+    }
+
+    NativeAd.placementSubscriptions.get(placement)?.remove();
+    NativeAd.placementSubscriptions.delete(placement);
+    NativeGoogleMobileAdsNativeModule.removePlacement?.(placement);
+    NativeAd.configurePrefetch(placement, '', { highWatermark: 0 });
+  }
+
+  /**
+   * Reports the positions of the list that are currently visible, e.g. from
+   * `onViewableItemsChanged`.
+   *
+   * @param placement The placement passed to `NativeAd.configurePlacement()`.
+   * @param firstPosition The first visible position.
+   * @param lastPosition The last visible position.
+   */
+  static setVisibleRange(placement: string, firstPosition: number, lastPosition: number) {
+    if (!isString(placement)) {
+      throw new Error("NativeAd.setVisibleRange(*) 'placement' expected an string value.");
+    }
+    if (!isNumber(firstPosition) || !isNumber(lastPosition) || lastPosition < firstPosition) {
+      throw new Error(
+        "NativeAd.setVisibleRange(_, *) 'firstPosition' and 'lastPosition' expected an ascending range.",
+      );
+    }
+
+    NativeGoogleMobileAdsNativeModule.setVisibleRange?.(placement, firstPosition, lastPosition);
+  }
+
+  /**
+   * Synchronously returns the ad assigned to `position`, or `null` if the position shows content
+   * or its ad has not been assigned yet. Returns the same instance for as long as the ad stays at
+   * the position.
+   *
+   * @param placement The placement passed to `NativeAd.configurePlacement()`.
+   * @param position The position in the list.
+   */
+  static getAdAtPosition(placement: string, position: number): NativeAd | null {
+    const props = NativeGoogleMobileAdsNativeModule.getAdAtPosition?.(placement, position);
+    if (!props) {
+      return null;
+    }
+    const { responseId } = props;
+    let nativeAd = NativeAd.placementAds.get(responseId);
+    if (!nativeAd) {
+      nativeAd = new NativeAd(NativeAd.prefetchAdUnitIds.get(placement) ?? '', props);
+      nativeAd.addAdEventListener(NativeAdEventType.EVICTED, () => {
+        NativeAd.placementAds.delete(responseId);
+      });
+      NativeAd.placementAds.set(responseId, nativeAd);
+    }
+    return nativeAd;
+  }
 }
@@ -22,5 +22,6 @@ import type GoogleMobileAdsNativeView from '../../specs/components/GoogleMobileA
 type NativeAdContextType = {
   nativeAd: NativeAd;
   viewRef: RefObject<React.ElementRef<typeof GoogleMobileAdsNativeView>>;
+  registerAsset: (assetType: string, reactTag: number) => void;
 };
 export const NativeAdContext = createContext<NativeAdContextType>({} as NativeAdContextType);
@@ -15,11 +15,13 @@
  *
  */
 
-import React, { useRef } from 'react';
+import React, { useCallback, useRef } from 'react';
 import { ViewProps } from 'react-native';
 import { NativeAd } from './NativeAd';
 import { NativeAdContext } from './NativeAdContext';
-import GoogleMobileAdsNativeView from '../../specs/components/GoogleMobileAdsNativeViewNativeComponent';
+import GoogleMobileAdsNativeView, {
+  Commands,
+} from '../../specs/components/GoogleMobileAdsNativeViewNativeComponent';
 
 export type NativeAdViewProps = ViewProps & {
   nativeAd: NativeAd;
@@ -28,6 +30,25 @@ export type NativeAdViewProps = ViewProps & {
 export const NativeAdView = (props: NativeAdViewProps) => {
   const { nativeAd, children, ...viewProps } = props;
   const ref = useRef<React.ElementRef<typeof GoogleMobileAdsNativeView>>(null);
+  const pendingAssets = useRef<Record<string, number>>({});
+
+  // Assets mounted in the same commit are registered with a single command, so the native view
+  // resolves them in one pass and binds the ad once.
+  const registerAsset = useCallback((assetType: string, reactTag: number) => {
+    const isFlushScheduled = Object.keys(pendingAssets.current).length > 0;
+    pendingAssets.current[assetType] = reactTag;
+    if (isFlushScheduled) {
+      return;
+    }
+    Promise.resolve().then(() => {
+      const assets = pendingAssets.current;
+      pendingAssets.current = {};
+      if (ref.current) {
+        Commands.registerAssets(ref.current, Object.keys(assets), Object.values(assets));
+      }
+    });
+  }, []);
+
   return (
     <GoogleMobileAdsNativeView
       {...viewProps}
@@ -35,7 +56,7 @@ export const NativeAdView = (props: NativeAdViewProps) => {
       responseId={nativeAd.responseId}
       removeClippedSubviews={false}
     >
-      <NativeAdContext.Provider value={{ nativeAd, viewRef: ref }}>
+      <NativeAdContext.Provider value={{ nativeAd, viewRef: ref, registerAsset }}>
         {children}
       </NativeAdContext.Provider>
     </GoogleMobileAdsNativeView>
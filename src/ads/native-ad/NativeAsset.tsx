@@ -18,7 +18,6 @@
 import React, { ReactElement, useContext, useEffect, useRef } from 'react';
 import { findNodeHandle } from 'react-native';
 import { NativeAdContext } from './NativeAdContext';
-import { Commands } from '../../specs/components/GoogleMobileAdsNativeViewNativeComponent';
 import { composeRefs, getElementRef } from '../../common/ref';
 
 export enum NativeAssetType {
@@ -40,7 +39,7 @@ export type NativeAssetProps = {
 
 export const NativeAsset = (props: NativeAssetProps) => {
   const { assetType, children } = props;
-  const { viewRef } = useContext(NativeAdContext);
+  const { viewRef, registerAsset } = useContext(NativeAdContext);
   const ref = useRef<React.Component>(null);
 
   useEffect(() => {
@@ -50,7 +49,7 @@ export const NativeAsset = (props: NativeAssetProps) => {
     const node = ref.current;
     const reactTag = findNodeHandle(node);
     if (reactTag) {
-      Commands.registerAsset(viewRef.current, assetType, reactTag);
+      registerAsset(assetType, reactTag);
     }
   }, [viewRef]);
 
@@ -29,6 +29,10 @@ export const NativeMediaView = (props: NativeMediaViewProps) => {
   const { resizeMode, style, ...viewProps } = props;
   const { nativeAd } = useContext(NativeAdContext);
   const { responseId, mediaContent } = nativeAd;
+  // The aspect ratio is known before the view mounts, so Yoga sizes it correctly in the first
+  // layout pass instead of the native view resizing itself once the media is attached.
+  const aspectRatio =
+    mediaContent && mediaContent.aspectRatio > 0 ? mediaContent.aspectRatio : undefined;
 
   return (
     // @ts-ignore
@@ -37,7 +41,7 @@ export const NativeMediaView = (props: NativeMediaViewProps) => {
         {...viewProps}
         responseId={responseId}
         resizeMode={resizeMode}
-        style={[{ aspectRatio: mediaContent?.aspectRatio }, style]}
+        style={[{ aspectRatio }, style]}
       />
     </NativeAsset>
   );
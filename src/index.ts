@@ -27,7 +27,9 @@ export {
   AdsConsentInfoOptions,
   AdsConsentInterface,
   AdsConsentPrivacyOptionsRequirementStatus,
+  AdsConsentSnapshot,
   AdsConsentStatus,
+  AdsConsentTCData,
   AdsConsentUserChoices,
 } from './specs/modules/NativeConsentModule';
 export { AdsConsentPurposes } from './AdsConsentPurposes';
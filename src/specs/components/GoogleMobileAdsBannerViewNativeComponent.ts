@@ -39,6 +39,7 @@ export interface NativeProps extends ViewProps {
   unitId: string;
   request: string;
   manualImpressionsEnabled: boolean;
+  slotId?: string;
   onNativeEvent: BubblingEventHandler<NativeEvent>;
 }
 
@@ -33,10 +33,15 @@ interface NativeCommands {
     assetType: string,
     reactTag: Int32,
   ) => void;
+  registerAssets: (
+    viewRef: React.ElementRef<NativeViewComponentType>,
+    assetTypes: ReadonlyArray<string>,
+    reactTags: ReadonlyArray<Int32>,
+  ) => void;
 }
 
 export const Commands: NativeCommands = codegenNativeCommands<NativeCommands>({
-  supportedCommands: ['registerAsset'],
+  supportedCommands: ['registerAsset', 'registerAssets'],
 });
 
 export default codegenNativeComponent<NativeProps>(
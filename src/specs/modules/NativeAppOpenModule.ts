@@ -21,6 +21,13 @@ import { Double, UnsafeObject } from 'react-native/Libraries/Types/CodegenTypes'
 export interface Spec extends TurboModule {
   appOpenLoad(requestId: Double, adUnitId: string, requestOptions: UnsafeObject): void;
   appOpenShow(requestId: Double, adUnitId: string, showOptions?: UnsafeObject): Promise<void>;
+  appOpenPreload?(adUnitId: string, requestOptions: UnsafeObject, depth: Double): void;
+  appOpenSetAutoShow?(
+    requestId: Double,
+    adUnitId: string,
+    requestOptions: UnsafeObject,
+    autoShowOptions: UnsafeObject,
+  ): void;
 }
 
 export default TurboModuleRegistry.getEnforcing<Spec>('RNGoogleMobileAdsAppOpenModule');
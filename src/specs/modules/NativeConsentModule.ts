@@ -16,6 +16,7 @@
  */
 
 import { TurboModule, TurboModuleRegistry } from 'react-native';
+import type { Double, UnsafeObject } from 'react-native/Libraries/Types/CodegenTypes';
 import { TCModel } from '@iabtcf/core';
 
 /**
@@ -145,6 +146,68 @@ export interface AdsConsentInfo {
   isConsentFormAvailable: boolean;
 }
 
+/**
+ * The IAB TCF values stored by the consent management platform, read in one go.
+ */
+export interface AdsConsentSnapshot {
+  /**
+   * The value of `IABTCF_TCString`, `null` if it is not set.
+   */
+  tcString: string | null;
+
+  /**
+   * Whether `IABTCF_gdprApplies` is `1`.
+   */
+  gdprApplies: boolean;
+
+  /**
+   * The value of `IABTCF_PurposeConsents`, an empty string if it is not set.
+   */
+  purposeConsents: string;
+
+  /**
+   * The value of `IABTCF_PurposeLegitimateInterests`, an empty string if it is not set.
+   */
+  purposeLegitimateInterests: string;
+
+  /**
+   * Every stored `IABTCF_` and `IABGPP_` key and its value.
+   */
+  values: Record<string, string | number>;
+}
+
+/**
+ * The decoded IAB TCF v2 TC string. Purposes, special features and custom purposes are listed by
+ * the IDs the user agreed to.
+ */
+export interface AdsConsentTCData {
+  version: number;
+  /**
+   * When the TC string was created, in milliseconds since the epoch.
+   */
+  created: number;
+  /**
+   * When the TC string was last updated, in milliseconds since the epoch.
+   */
+  lastUpdated: number;
+  cmpId: number;
+  cmpVersion: number;
+  consentScreen: number;
+  consentLanguage: string;
+  vendorListVersion: number;
+  policyVersion: number;
+  isServiceSpecific: boolean;
+  purposeOneTreatment: boolean;
+  publisherCountryCode: string;
+  specialFeatureOptins: number[];
+  purposeConsents: number[];
+  purposeLegitimateInterests: number[];
+  publisherConsents: number[];
+  publisherLegitimateInterests: number[];
+  customPurposeConsents: number[];
+  customPurposeLegitimateInterests: number[];
+}
+
 /**
  * The options used when requesting consent information.
  *
@@ -489,6 +552,61 @@ export interface AdsConsentInterface {
    */
   getPurposeLegitimateInterests(): Promise<string>;
 
+  /**
+   * Returns all values of the IAB Europe Transparency & Consent Framework stored in
+   * NSUserDefaults (iOS) / SharedPreferences (Android) with a single call.
+   *
+   * On Android the values are kept in memory and updated whenever the consent management platform
+   * changes them, so this is cheap enough to call before every ad request.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { AdsConsent } from '@invertase/react-native-google-ads';
+   *
+   * const { gdprApplies, purposeConsents } = await AdsConsent.getConsentSnapshot();
+   * const hasConsentForPurposeOne = !gdprApplies || purposeConsents.startsWith("1");
+   * ```
+   */
+  getConsentSnapshot(): Promise<AdsConsentSnapshot>;
+
+  /**
+   * Returns the decoded TC string, or `null` if none is stored or it is invalid.
+   *
+   * On Android the TC string is decoded natively once per change. If there is no
+   * `IABTCF_TCString`, the EU TCF v2 section of the GPP string (`IABGPP_HDR_GppString`) is used.
+   */
+  getTCData(): Promise<AdsConsentTCData | null>;
+
+  /**
+   * Returns whether a vendor may process data for a purpose based on the user's consent: both the
+   * purpose and the vendor have consent, and no publisher restriction disallows it or requires
+   * legitimate interest instead.
+   *
+   * #### Example
+   *
+   * ```js
+   * import { AdsConsent } from '@invertase/react-native-google-ads';
+   *
+   * // Google is vendor 755, purpose 1 is storing and accessing information on the device
+   * const canStoreInformation = await AdsConsent.hasVendorPurposeConsent(755, 1);
+   * ```
+   *
+   * @param vendorId The ID of the vendor in the Global Vendor List.
+   * @param purposeId The ID of the purpose.
+   */
+  hasVendorPurposeConsent(vendorId: number, purposeId: number): Promise<boolean>;
+
+  /**
+   * Returns whether a vendor may process data for a purpose based on legitimate interest: the user
+   * did not object for either, and no publisher restriction disallows it or requires consent
+   * instead. Always `false` for purpose 1.
+   *
+   * @param vendorId The ID of the vendor in the Global Vendor List.
+   * @param purposeId The ID of the purpose.
+   */
+  hasVendorPurposeLegitimateInterest(vendorId: number, purposeId: number): Promise<boolean>;
+
   /**
    * Provides information about a user's consent choices.
    *
@@ -526,6 +644,10 @@ export interface Spec extends TurboModule {
   getGdprApplies(): Promise<boolean>;
   getPurposeConsents(): Promise<string>;
   getPurposeLegitimateInterests(): Promise<string>;
+  getConsentSnapshot(): Promise<UnsafeObject>;
+  getTCData?(): Promise<UnsafeObject | null>;
+  hasVendorPurposeConsent?(vendorId: Double, purposeId: Double): Promise<boolean>;
+  hasVendorPurposeLegitimateInterest?(vendorId: Double, purposeId: Double): Promise<boolean>;
   reset(): void;
 }
 
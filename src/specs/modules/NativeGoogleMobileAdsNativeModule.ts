@@ -55,14 +55,63 @@ export type NativeAdEventPayload = {
   type: string;
 };
 
+export type NativeAdBatchEventPayload = NativeAdEventPayload & {
+  batchId: number;
+  ad?: NativeAdProps;
+  loaded?: number;
+  error?: {
+    code: string;
+    message: string;
+  };
+};
+
 export type NativeAdPaidEventPayload = {
   value: number;
   precision: number;
   currencyCode: string;
 };
 
+export type NativeAdPlacementEventPayload = NativeAdEventPayload & {
+  placement: string;
+  positions: number[];
+};
+
+export type NativeAdEvictedEventPayload = {
+  reason: 'expired' | 'evicted' | 'memory' | 'recycled';
+};
+
+export type NativeAdMultiFormatProps =
+  | { format: 'native'; ad: NativeAdProps }
+  | { format: 'banner'; slotId: string; width: number; height: number };
+
 export interface Spec extends TurboModule {
   load(adUnitId: string, requestOptions: UnsafeObject): Promise<NativeAdProps>;
+  loadMultiFormat?(
+    adUnitId: string,
+    bannerSizes: ReadonlyArray<string>,
+    requestOptions: UnsafeObject,
+  ): Promise<UnsafeObject>;
+  loadMany?(batchId: Double, adUnitId: string, count: Double, requestOptions: UnsafeObject): void;
+  configurePrefetch?(
+    placement: string,
+    adUnitId: string,
+    lowWatermark: Double,
+    highWatermark: Double,
+    requestOptions: UnsafeObject,
+  ): void;
+  dequeue?(placement: string): NativeAdProps | null;
+  configurePlacement?(
+    placement: string,
+    firstPosition: Double,
+    spacing: Double,
+    maxAds: Double,
+    preloadDistance: Double,
+    recycleDistance: Double,
+  ): void;
+  removePlacement?(placement: string): void;
+  setVisibleRange?(placement: string, firstPosition: Double, lastPosition: Double): void;
+  getAdAtPosition?(placement: string, position: Double): NativeAdProps | null;
+  getPrefetchStats?(): Promise<UnsafeObject>;
   destroy(responseId: string): void;
   readonly onAdEvent: EventEmitter<NativeAdEventPayload>;
 }
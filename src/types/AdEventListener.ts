@@ -19,11 +19,16 @@ import { AdEventType } from '../AdEventType';
 import { GAMAdEventType } from '../GAMAdEventType';
 import { RewardedAdEventType } from '../RewardedAdEventType';
 import { AppEvent } from './AppEvent';
+import { AdImpressionEvent, AdOpenedEvent } from './LatencyStats';
 import { RewardedAdReward } from './RewardedAdReward';
 
 export type AdEventPayload<T extends AdEventType | RewardedAdEventType | GAMAdEventType = never> =
   T extends AdEventType.ERROR
     ? Error
+    : T extends AdEventType.OPENED
+    ? AdOpenedEvent | undefined
+    : T extends AdEventType.IMPRESSION
+    ? AdImpressionEvent | undefined
     : T extends RewardedAdEventType
     ? RewardedAdReward
     : T extends GAMAdEventType
@@ -0,0 +1,23 @@
+import { AdShowOptions } from './AdShowOptions';
+
+/**
+ * A `AppOpenAutoShowOptions` interface used when enabling native auto show of app open ads.
+ */
+export interface AppOpenAutoShowOptions extends AdShowOptions {
+  /**
+   * The minimum time in milliseconds between two ads shown on foreground. Defaults to `0`.
+   */
+  cooldown?: number;
+
+  /**
+   * The minimum time in milliseconds the app must have spent in the background before an ad is
+   * shown on return. Defaults to `0`.
+   */
+  minimumBackgroundDuration?: number;
+
+  /**
+   * Preloaded ads older than this many milliseconds are discarded instead of shown. Defaults to
+   * four hours, after which app open ads expire.
+   */
+  maxAdAge?: number;
+}
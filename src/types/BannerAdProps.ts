@@ -177,6 +177,12 @@ export interface GAMBannerAdProps extends Omit<BannerAdProps, 'size'> {
    */
   manualImpressionsEnabled?: boolean;
 
+  /**
+   * Shows the banner that won a `NativeAd.loadMultiFormat()` request instead of loading a new one.
+   * If the banner is no longer available, the view loads one as usual. Android only.
+   */
+  slotId?: string;
+
   /**
    * When an ad received Ad Manager specific app events.
    */
@@ -0,0 +1,85 @@
+/**
+ * A histogram of latencies in milliseconds, measured with a monotonic clock.
+ */
+export interface LatencyHistogram {
+  count: number;
+  mean: number;
+  min: number;
+  max: number;
+
+  /**
+   * Inclusive upper bounds of the buckets in milliseconds.
+   */
+  bucketBounds: number[];
+
+  /**
+   * The number of samples in each bucket. There is one more entry than in `bucketBounds`, the
+   * last one counting samples above the highest bound.
+   */
+  bucketCounts: number[];
+}
+
+/**
+ * Latency histograms grouped by what was measured (e.g. `interstitial.show`) and then by stage
+ * (e.g. `render`).
+ */
+export type LatencyStats = Record<string, Record<string, LatencyHistogram>>;
+
+/**
+ * How long each stage of showing a full-screen ad took, in milliseconds, from the native side
+ * receiving the `show()` call to the SDK reporting the ad as shown.
+ */
+export interface ShowLatency {
+  /**
+   * Waiting for the main thread after the call was received.
+   */
+  uiThreadHop: number;
+
+  /**
+   * Preparing the ad and handing it to the SDK.
+   */
+  helperDispatch: number;
+
+  /**
+   * The SDK presenting the ad until it reported it as shown.
+   */
+  render: number;
+
+  total: number;
+}
+
+/**
+ * Timings of an ad impression in milliseconds.
+ */
+export interface ImpressionLatency {
+  /**
+   * From the ad being loaded to its impression. For preloaded ads this includes the time they
+   * spent in the pool.
+   */
+  loadToImpression: number;
+
+  /**
+   * From the native side receiving the `show()` call to the impression.
+   */
+  showToImpression?: number;
+}
+
+/**
+ * The payload of an `AdEventType.IMPRESSION` event.
+ */
+export interface AdImpressionEvent {
+  /**
+   * Only set on Android.
+   */
+  latency?: ImpressionLatency;
+}
+
+/**
+ * The payload of an `AdEventType.OPENED` event.
+ */
+export interface AdOpenedEvent {
+  /**
+   * Only set on Android, when the ad was shown by the native side.
+   */
+  latency?: ShowLatency;
+}
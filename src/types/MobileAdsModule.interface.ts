@@ -1,4 +1,5 @@
 import { AdapterStatus } from './AdapterStatus';
+import { LatencyStats } from './LatencyStats';
 import { RequestConfiguration } from './RequestConfiguration';
 
 /**
@@ -77,4 +78,15 @@ export interface MobileAdsModuleInterface {
    * @param muted true if the app is muted, false otherwise. Defaults to false.
    */
   setAppMuted(muted: boolean): void;
+
+  /**
+   * Returns the latency histograms collected natively since the app started, grouped by what was
+   * measured. For example `interstitial.show` holds the stages between a `show()` call reaching
+   * the native side and the ad being displayed, and `interstitial:<adUnitId>` the load,
+   * load-to-impression and show-to-impression latency of a single ad unit.
+   *
+   * Latency stats are currently only collected on Android, on other platforms this resolves
+   * with an empty object.
+   */
+  getLatencyStats(): Promise<LatencyStats>;
 }
@@ -0,0 +1,19 @@
+import type { NativeAd } from '../ads/native-ad/NativeAd';
+
+/**
+ * The ad that won a `NativeAd.loadMultiFormat()` request.
+ *
+ * A banner is already loaded. Show it by passing `slotId` to a `GAMBannerAd` with the same unit
+ * ID, which then renders it at `width` x `height` instead of requesting another banner.
+ */
+export type NativeAdMultiFormatResult =
+  | {
+      format: 'native';
+      nativeAd: NativeAd;
+    }
+  | {
+      format: 'banner';
+      slotId: string;
+      width: number;
+      height: number;
+    };
@@ -0,0 +1,91 @@
+import { LatencyHistogram } from './LatencyStats';
+import { NativeAdRequestOptions } from './NativeAdRequestOptions';
+
+/**
+ * A `NativeAdPrefetchOptions` interface used when configuring the prefetch queue of a placement.
+ */
+export interface NativeAdPrefetchOptions {
+  /**
+   * The queue is refilled once it holds this many ads or fewer. Defaults to `1`.
+   */
+  lowWatermark?: number;
+
+  /**
+   * The number of ads the queue is refilled up to. Must be greater than `lowWatermark`, defaults
+   * to `3`.
+   */
+  highWatermark?: number;
+
+  /**
+   * The request options used to load the queued ads.
+   */
+  requestOptions?: NativeAdRequestOptions;
+}
+
+/**
+ * Counters of the prefetch queue of a placement.
+ */
+export interface NativeAdPrefetchStats {
+  /**
+   * The number of loaded ads currently waiting in the queue.
+   */
+  queued: number;
+
+  /**
+   * The number of `NativeAd.dequeue()` calls that returned an ad.
+   */
+  hits: number;
+
+  /**
+   * The number of `NativeAd.dequeue()` calls that found the queue empty.
+   */
+  misses: number;
+
+  /**
+   * `hits` divided by all `NativeAd.dequeue()` calls, `0` before the first call.
+   */
+  hitRate: number;
+
+  /**
+   * How long refills took, from starting to load until the last ad of the refill arrived.
+   */
+  refillLatency?: LatencyHistogram;
+}
+
+/**
+ * A `NativeAdPlacementOptions` interface used when configuring the list placement of a prefetch
+ * queue. Positions count ads and content items alike.
+ */
+export interface NativeAdPlacementOptions extends NativeAdPrefetchOptions {
+  /**
+   * The position of the first ad. Defaults to `2`.
+   */
+  firstPosition?: number;
+
+  /**
+   * The number of content items between two ads. Defaults to `5`.
+   */
+  spacing?: number;
+
+  /**
+   * The most ads the list shows, `0` for no limit. Defaults to `0`.
+   */
+  maxAds?: number;
+
+  /**
+   * Slots get an ad once they are this many positions away from the visible range. Defaults to
+   * `10`.
+   */
+  preloadDistance?: number;
+
+  /**
+   * Slots give up their ad once they are more than this many positions away from the visible
+   * range. Must be at least `preloadDistance`, defaults to `30`.
+   */
+  recycleDistance?: number;
+
+  /**
+   * Called with the positions that just got an ad, so their cells can be rendered again.
+   */
+  onAdsAssigned?: (positions: number[]) => void;
+}
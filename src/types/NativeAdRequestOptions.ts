@@ -52,4 +52,11 @@ export interface NativeAdRequestOptions extends RequestOptions {
    * - When enabled, your app requests that the video should begin with audio muted.
    */
   startVideoMuted?: boolean;
+  /**
+   * Only returns the URLs of the image assets instead of downloading and decoding them natively.
+   * Render `icon.url` and `images` with your own `<Image>` components in this mode; on Android the
+   * images are prefetched into the app's image cache as soon as the ad loads.
+   * - Disabled by default.
+   */
+  returnUrlsForImageAssets?: boolean;
 }
@@ -27,3 +27,7 @@ export * from './RequestOptions';
 export * from './RewardedAdReward';
 export * from './AppEvent';
 export * from './NativeAdRequestOptions';
+export * from './AppOpenAutoShowOptions';
+export * from './LatencyStats';
+export * from './NativeAdPrefetch';
+export * from './NativeAdMultiFormat';
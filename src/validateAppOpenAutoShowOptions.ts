@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2016-present Invertase Limited & Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this library except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+import { isPropertySet, isNumber, isUndefined } from './common';
+import { AppOpenAutoShowOptions } from './types/AppOpenAutoShowOptions';
+import { validateAdShowOptions } from './validateAdShowOptions';
+
+export function validateAppOpenAutoShowOptions(options?: AppOpenAutoShowOptions) {
+  const out: AppOpenAutoShowOptions = validateAdShowOptions(options);
+
+  // validateAdShowOptions has already rejected values that are not objects.
+  if (isUndefined(options)) {
+    return out;
+  }
+
+  (['cooldown', 'minimumBackgroundDuration', 'maxAdAge'] as const).forEach(key => {
+    if (isPropertySet(options, key)) {
+      const value = options[key] as number;
+      if (!isNumber(value) || value < 0) {
+        throw new Error(`'options.${key}' expected a positive number value`);
+      }
+
+      out[key] = value;
+    }
+  });
+
+  return out;
+}
@@ -46,5 +46,12 @@ export function validateNativeAdRequestOptions(
     out.startVideoMuted = options.startVideoMuted;
   }
 
+  if (!isUndefined(options?.returnUrlsForImageAssets)) {
+    if (!isBoolean(options.returnUrlsForImageAssets)) {
+      throw new Error("'options.returnUrlsForImageAssets' expected a boolean value");
+    }
+    out.returnUrlsForImageAssets = options.returnUrlsForImageAssets;
+  }
+
   return out;
 }